@@ -1,15 +1,29 @@
 package com.webapp.config;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.boot.task.ThreadPoolTaskSchedulerBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.web.client.RestTemplate;
 
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
  * 애플리케이션 전역 설정
+ * - 전용 풀(debateScheduler, githubCrawlExecutor)을 Executor 빈으로 등록하면 Spring Boot 기본 applicationTaskExecutor와
+ *   taskScheduler 자동 설정이 꺼지므로 두 빈을 직접 등록 (spring.task.execution/scheduling.* 속성 적용)
  */
 @Configuration
 public class AppConfig {
-    
+
     /**
      * RestTemplate Bean 등록
      * - 여러 서비스에서 재사용 가능
@@ -19,4 +33,67 @@ public class AppConfig {
     public RestTemplate restTemplate() {
         return new RestTemplate();
     }
-}
\ No newline at end of file
+
+    /**
+     * @Async, StreamingResponseBody 등 MVC 비동기 처리용 풀 (크기/큐 상한은 spring.task.execution.pool.*)
+     * - 없으면 @Async와 MVC 비동기가 요청마다 스레드를 만드는 SimpleAsyncTaskExecutor로 대체됨
+     */
+    @Bean(name = {"applicationTaskExecutor", "taskExecutor"})
+    public ThreadPoolTaskExecutor applicationTaskExecutor(ThreadPoolTaskExecutorBuilder builder) {
+        return builder.build();
+    }
+
+    /**
+     * @Scheduled 작업용 스케줄러 (없으면 debateScheduler가 대신 사용되어 토론 턴과 정리 작업이 섞임)
+     */
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(ThreadPoolTaskSchedulerBuilder builder) {
+        return builder.build();
+    }
+
+    /**
+     * 비동기 HTTP 클라이언트 (java.net.http)
+     * - 응답을 기다리는 동안 스레드를 점유하지 않음 (AI 토론처럼 오래 걸리는 호출용)
+     * - 완료 콜백은 작은 고정 풀에서 실행
+     */
+    @Bean
+    public HttpClient asyncHttpClient(@Value("${http.async.threads:4}") int threads) {
+        AtomicInteger threadIndex = new AtomicInteger();
+        return HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(10))
+            .executor(Executors.newFixedThreadPool(threads, r -> {
+                Thread thread = new Thread(r, "http-async-" + threadIndex.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }))
+            .build();
+    }
+
+    /**
+     * AI 토론 턴 스케줄러
+     * - 턴 사이 간격을 sleep 대신 예약 실행으로 처리하므로 토론 수와 무관하게 스레드 수 고정
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    public ScheduledExecutorService debateScheduler(@Value("${ai.debate.scheduler-threads:2}") int threads) {
+        AtomicInteger threadIndex = new AtomicInteger();
+        return Executors.newScheduledThreadPool(threads, r -> {
+            Thread thread = new Thread(r, "debate-scheduler-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * GitHub 텍스트 뷰 병렬 조회 풀
+     * - 풀 크기 = 동시 GitHub 요청 수 상한 (secondary rate limit을 넘지 않도록 작게 유지)
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService githubCrawlExecutor(@Value("${github.crawl.concurrency:6}") int concurrency) {
+        AtomicInteger threadIndex = new AtomicInteger();
+        return Executors.newFixedThreadPool(concurrency, r -> {
+            Thread thread = new Thread(r, "github-crawl-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
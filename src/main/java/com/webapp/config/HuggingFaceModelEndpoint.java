@@ -0,0 +1,43 @@
+package com.webapp.config;
+
+import com.webapp.service.HuggingFaceModelRegistry;
+import com.webapp.service.HuggingFaceModelRegistry.ModelEndpoint;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Hugging Face 모델 관리 Actuator 엔드포인트 (/actuator/huggingfacemodels)
+ * - 조회: GET /actuator/huggingfacemodels
+ * - 교체: POST /actuator/huggingfacemodels/{task} {"model": "..."} (URL은 설정된 추론 기본 URL 기준으로만 생성)
+ * - 복귀: DELETE /actuator/huggingfacemodels/{task}
+ * - 기본적으로 노출되지 않으므로 management.endpoints.web.exposure.include에 추가해야 함
+ */
+@Component
+@Endpoint(id = "huggingfacemodels")
+@RequiredArgsConstructor
+public class HuggingFaceModelEndpoint {
+
+    private final HuggingFaceModelRegistry modelRegistry;
+
+    @ReadOperation
+    public Map<String, ModelEndpoint> models() {
+        return modelRegistry.snapshot();
+    }
+
+    @WriteOperation
+    public ModelEndpoint override(@Selector String task, String model) {
+        return modelRegistry.override(task, model);
+    }
+
+    @DeleteOperation
+    public ModelEndpoint reset(@Selector String task) {
+        return modelRegistry.reset(task);
+    }
+}
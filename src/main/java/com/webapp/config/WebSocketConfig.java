@@ -1,25 +1,108 @@
 package com.webapp.config;
 
+import com.webapp.service.debate.DebateBacklogTracker;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.messaging.simp.config.StompBrokerRelayRegistration;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
+/**
+ * WebSocket(STOMP) 설정
+ * - websocket.broker.mode=simple: 노드 내 메모리 브로커 (기본값, 단일 노드용)
+ * - websocket.broker.mode=relay: 외부 STOMP 브로커(RabbitMQ STOMP 플러그인, ActiveMQ 등)로 /topic 메시지를 중계
+ *   → 어느 노드에서 발행한 토론 메시지도 다른 노드에 연결된 구독자에게 전달됨 (sticky session 불필요)
+ * - 세션별 송신 버퍼/송신 시간/메시지 크기 제한 (초과한 느린 클라이언트는 연결 종료되어 서버 메모리에 프레임이 쌓이지 않음)
+ */
+@Slf4j
 @Configuration
 @EnableWebSocketMessageBroker
+@RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    private final DebateBacklogTracker debateBacklogTracker;
+
+    @Value("${websocket.broker.mode:simple}")
+    private String brokerMode;
+
+    @Value("${websocket.broker.relay.host:localhost}")
+    private String relayHost;
+
+    @Value("${websocket.broker.relay.port:61613}")
+    private int relayPort;
+
+    @Value("${websocket.broker.relay.login:guest}")
+    private String relayLogin;
+
+    @Value("${websocket.broker.relay.passcode:guest}")
+    private String relayPasscode;
+
+    @Value("${websocket.broker.relay.virtual-host:}")
+    private String relayVirtualHost;
+
+    @Value("${websocket.transport.send-buffer-size-limit:524288}")
+    private int sendBufferSizeLimit;
+
+    @Value("${websocket.transport.send-time-limit-ms:10000}")
+    private int sendTimeLimitMs;
+
+    @Value("${websocket.transport.message-size-limit:65536}")
+    private int messageSizeLimit;
+
+    @Value("${websocket.sockjs.http-message-cache-size:100}")
+    private int sockJsHttpMessageCacheSize;
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
-        config.enableSimpleBroker("/topic"); // "/topic"으로 시작하는 메시지를 브로커가 처리
+        if ("relay".equalsIgnoreCase(brokerMode)) {
+            // 클라이언트 세션과 서버 발행(system 세션) 모두 같은 계정 사용
+            StompBrokerRelayRegistration relay = config.enableStompBrokerRelay("/topic")
+                .setRelayHost(relayHost)
+                .setRelayPort(relayPort)
+                .setClientLogin(relayLogin)
+                .setClientPasscode(relayPasscode)
+                .setSystemLogin(relayLogin)
+                .setSystemPasscode(relayPasscode);
+            if (!relayVirtualHost.isBlank()) {
+                relay.setVirtualHost(relayVirtualHost);
+            }
+            log.info("STOMP 브로커 릴레이 사용: {}:{}", relayHost, relayPort);
+        } else {
+            config.enableSimpleBroker("/topic"); // "/topic"으로 시작하는 메시지를 브로커가 처리
+        }
         config.setApplicationDestinationPrefixes("/app"); // "/app"으로 시작하는 메시지는 @MessageMapping 메서드로 라우팅
+        config.setPreservePublishOrder(true); // 스트리밍 조각이 세션별로 보낸 순서대로 전달되도록 보장
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration
+            .setSendBufferSizeLimit(sendBufferSizeLimit) // 세션별로 쌓아둘 수 있는 미전송 바이트
+            .setSendTimeLimit(sendTimeLimitMs)           // 한 번의 전송이 이 시간을 넘기면 느린 클라이언트로 보고 종료
+            .setMessageSizeLimit(messageSizeLimit);      // 수신 메시지 최대 크기
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(debateBacklogTracker); // 구독/해제 추적
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.interceptors(debateBacklogTracker); // 구독자별 전달 수 추적
     }
 
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
         // WebSocket 연결을 위한 STOMP 엔드포인트 "/ws" 등록
         // SockJS를 사용하여 WebSocket을 지원하지 않는 브라우저를 위한 Fallback 옵션 활성화
-        registry.addEndpoint("/ws").setAllowedOrigins("https://toy.playcloud8.com").withSockJS();
+        registry.addEndpoint("/ws").setAllowedOrigins("https://toy.playcloud8.com").withSockJS()
+            .setHttpMessageCacheSize(sockJsHttpMessageCacheSize); // HTTP 폴링 전송 시 세션별로 보관하는 프레임 수
     }
 }
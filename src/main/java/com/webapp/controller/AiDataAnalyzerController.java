@@ -2,13 +2,16 @@ package com.webapp.controller;
 
 import com.webapp.service.HuggingFaceApiService;
 import com.webapp.service.MenuService;
+import com.webapp.service.analysis.DataAnalysisEngine;
 import com.webapp.util.ResponseUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.io.InputStream;
 import java.util.List;
 import java.util.Map;
 
@@ -55,4 +58,58 @@ public class AiDataAnalyzerController {
             return ResponseUtils.failure("분석 오류", e);
         }
     }
+    
+    /**
+     * API: 대용량 데이터 분석 (요청 본문 스트리밍)
+     * - 본문을 그대로 읽으며 분석하므로 크기 제한 없음, 메모리/임시 파일 사용 없음
+     * - 형식: format 파라미터 또는 Content-Type (text/csv, application/x-ndjson, application/jsonl)
+     *   예) curl -H 'Content-Type: text/csv' --data-binary @data.csv .../api/analyze-stream
+     */
+    @PostMapping(value = "/api/analyze-stream", consumes = {"text/csv", "application/x-ndjson", "application/ndjson",
+        "application/jsonl", "application/octet-stream"})
+    @ResponseBody
+    public Map<String, Object> analyzeDataStream(InputStream body,
+                                                 @RequestHeader(value = "Content-Type", required = false) String contentType,
+                                                 @RequestParam(value = "format", required = false) String format) {
+        DataAnalysisEngine.DataFormat dataFormat = format != null && !format.isBlank()
+            ? DataAnalysisEngine.DataFormat.detect(format, null)
+            : DataAnalysisEngine.DataFormat.fromContentType(contentType);
+        if (dataFormat == null) {
+            return ResponseUtils.failure("CSV 또는 NDJSON 데이터만 분석할 수 있습니다.");
+        }
+
+        try {
+            return huggingFaceApiService.analyzeDataStream(body, dataFormat);
+        } catch (Exception e) {
+            log.error("데이터 스트림 분석 오류", e);
+            return ResponseUtils.failure("분석 오류", e);
+        }
+    }
+
+    /**
+     * API: 대용량 데이터 분석 (CSV/NDJSON 파일 업로드)
+     * - format 미지정 시 파일 확장자로 판별 (.csv, .ndjson, .jsonl)
+     * - multipart 업로드는 분석 전에 서버가 파일 전체를 받아 두므로 spring.servlet.multipart.max-file-size로 제한됨
+     *   → 더 큰 데이터는 본문 스트리밍(위 Content-Type)으로 전송
+     */
+    @PostMapping(value = "/api/analyze-stream", consumes = "multipart/form-data")
+    @ResponseBody
+    public Map<String, Object> analyzeDataUpload(@RequestParam("file") MultipartFile file,
+                                                 @RequestParam(value = "format", required = false) String format) {
+        if (file == null || file.isEmpty()) {
+            return ResponseUtils.failure("분석할 파일을 선택하세요.");
+        }
+
+        DataAnalysisEngine.DataFormat dataFormat = DataAnalysisEngine.DataFormat.detect(format, file.getOriginalFilename());
+        if (dataFormat == null) {
+            return ResponseUtils.failure("CSV 또는 NDJSON 파일만 분석할 수 있습니다.");
+        }
+
+        try (InputStream input = file.getInputStream()) {
+            return huggingFaceApiService.analyzeDataStream(input, dataFormat);
+        } catch (Exception e) {
+            log.error("데이터 스트림 분석 오류", e);
+            return ResponseUtils.failure("분석 오류", e);
+        }
+    }
 }
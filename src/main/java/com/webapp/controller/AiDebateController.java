@@ -2,16 +2,20 @@ package com.webapp.controller;
 
 import com.webapp.service.AiDebateService;
 import com.webapp.service.MenuService;
+import com.webapp.service.debate.DebateArchive;
 import com.webapp.util.ResponseUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.UUID;
 
@@ -27,6 +31,7 @@ public class AiDebateController {
 
     private final MenuService menuService;
     private final AiDebateService aiDebateService; // AiDebateService 주입
+    private final DebateArchive debateArchive; // 저장된 토론 조회
 
     @Value("${ai.debate.max-turns}")
     private int maxDebateTurns;
@@ -75,6 +80,27 @@ public class AiDebateController {
         return ResponseUtils.success("AI 토론 세션이 준비되었습니다.", "sessionId", sessionId);
     }
 
+    /**
+     * HTTP API: 저장된 토론 기록 조회 (공유 링크 /ai-debate?transcript={id} 에서 사용)
+     * - 없거나 발언 JSON을 읽을 수 없는 기록은 404
+     */
+    @GetMapping("/api/transcripts/{id}")
+    @ResponseBody
+    public ResponseEntity<Map<String, Object>> getTranscript(@PathVariable String id) {
+        return debateArchive.findById(id)
+            .flatMap(transcript -> debateArchive.messagesOf(transcript).map(messages -> {
+                Map<String, Object> data = new LinkedHashMap<>();
+                data.put("id", transcript.getId());
+                data.put("topic", transcript.getTopic());
+                data.put("turns", transcript.getTurns());
+                data.put("createdAt", transcript.getCreatedAt());
+                data.put("messages", messages);
+                return ResponseEntity.ok(ResponseUtils.success("저장된 토론을 불러왔습니다.", data));
+            }))
+            .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(ResponseUtils.failure("저장된 토론을 찾을 수 없습니다.")));
+    }
+
     /**
      * WebSocket STOMP: AI 토론 시작
      * 클라이언트로부터 STOMP 메시지를 받아 실제 토론을 시작합니다.
@@ -85,6 +111,7 @@ public class AiDebateController {
             String sessionId = request.get("sessionId");
             String topic = request.get("topic");
             String turnsStr = request.get("turns");
+            boolean allowReplay = !"false".equalsIgnoreCase(request.get("replay")); // 저장된 토론 재생 허용 (기본 허용)
 
             if (sessionId == null || sessionId.trim().isEmpty()) {
                 log.error("Missing sessionId for WebSocket debate start.");
@@ -113,8 +140,8 @@ public class AiDebateController {
 
             log.info("WebSocket AI 토론 시작 - 세션 ID: {}, 주제: {}, 요청 턴 수: {}, 실제 토론 턴 수: {}", sessionId, topic, requestedTurns, actualDebateTurns);
 
-            // 비동기 서비스 호출
-            aiDebateService.startDebateAsync(sessionId, topic, actualDebateTurns);
+            // 토론 시작 (턴 진행은 서비스의 스케줄러/비동기 호출로 처리되어 즉시 반환)
+            aiDebateService.startDebate(sessionId, topic, actualDebateTurns, allowReplay);
 
         } catch (Exception e) {
             log.error("WebSocket AI 토론 시작 중 오류 발생", e);
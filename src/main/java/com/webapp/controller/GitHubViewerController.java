@@ -1,15 +1,35 @@
 package com.webapp.controller;
 
 import com.webapp.service.GitHubApiService;
+import com.webapp.service.GitHubApiService.GitHubRateLimitException;
+import com.webapp.service.github.DirectoryListingPrefetcher;
+import com.webapp.service.github.RateLimitGovernor;
+import com.webapp.service.github.RepositoryTextViewGenerator;
+import com.webapp.service.github.TextViewSnapshotCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * GitHub 저장소 뷰어 컨트롤러
@@ -26,13 +46,28 @@ public class GitHubViewerController {
     private static final String REPO = "toy";
     private static final String ERROR_VIEW = "github-viewer-error";
     private static final String VIEWER_VIEW = "github-viewer";
+    private static final MediaType TEXT_PLAIN_UTF8 = new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.UTF_8);
     
     // 에러 메시지 상수
     private static final String ERROR_TOKEN_REQUIRED = "Access denied: Token required";
     private static final String ERROR_INVALID_TOKEN = "Access denied: Invalid token";
     private static final String ERROR_API_CALL_FAILED = "Failed to retrieve data from GitHub";
+    private static final String ERROR_RATE_LIMITED = "GitHub API rate limit exceeded, please retry later";
     
     private final GitHubApiService gitHubApiService;
+    private final RepositoryTextViewGenerator textViewGenerator;
+    private final TextViewSnapshotCache textViewCache;
+    private final RateLimitGovernor rateLimitGovernor;
+    private final DirectoryListingPrefetcher directoryPrefetcher;
+    
+    @Value("${github.viewer.page-size:100}")
+    private int defaultPageSize;
+    
+    @Value("${github.viewer.max-page-size:500}")
+    private int maxPageSize;
+    
+    @Value("${github.text-view.cache.wait-timeout-ms:30000}")
+    private long textViewWaitTimeoutMs;
     
     /**
      * GitHub 소스 뷰어 메인 페이지
@@ -43,8 +78,12 @@ public class GitHubViewerController {
             return renderError(model, ERROR_TOKEN_REQUIRED);
         }
         
-        if (!gitHubApiService.verifyToken(token)) {
-            return renderError(model, ERROR_INVALID_TOKEN);
+        try {
+            if (!gitHubApiService.verifyToken(token)) {
+                return renderError(model, ERROR_INVALID_TOKEN);
+            }
+        } catch (GitHubRateLimitException e) {
+            return renderError(model, ERROR_RATE_LIMITED);
         }
         
         model.addAttribute("owner", OWNER);
@@ -54,21 +93,27 @@ public class GitHubViewerController {
     }
     
     /**
-     * API: 저장소 구조 조회
+     * API: 저장소 구조 조회 (페이지 단위)
+     * - 응답: {path, items, page, size, total, hasMore}
+     * - 디렉토리 목록은 DirectoryListingPrefetcher로 조회 (하위 디렉토리를 미리 조회해 다음 클릭은 캐시에서 응답)
      */
     @GetMapping("/api/structure")
     @ResponseBody
     public ResponseEntity<?> getRepoStructure(
             @RequestParam String token,
-            @RequestParam(defaultValue = "") String path) {
-        
-        if (!gitHubApiService.verifyToken(token)) {
-            return ResponseEntity.status(403).body(createErrorResponse(ERROR_INVALID_TOKEN));
-        }
+            @RequestParam(defaultValue = "") String path,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(required = false) Integer size) {
         
         try {
-            List<Map<String, Object>> contents = gitHubApiService.getContents(OWNER, REPO, path, token);
-            return ResponseEntity.ok(contents);
+            if (!gitHubApiService.verifyToken(token)) {
+                return ResponseEntity.status(403).body(createErrorResponse(ERROR_INVALID_TOKEN));
+            }
+            
+            List<Map<String, Object>> contents = directoryPrefetcher.list(OWNER, REPO, path, token);
+            return ResponseEntity.ok(toPage(path, contents, page, size));
+        } catch (GitHubRateLimitException e) {
+            return rateLimited(e).body(createErrorResponse(ERROR_RATE_LIMITED));
         } catch (Exception e) {
             log.error("Failed to get repo structure for path: {}", path, e);
             return ResponseEntity.status(500).body(createErrorResponse(ERROR_API_CALL_FAILED));
@@ -84,11 +129,11 @@ public class GitHubViewerController {
             @RequestParam String token,
             @RequestParam String path) {
         
-        if (!gitHubApiService.verifyToken(token)) {
-            return ResponseEntity.status(403).body(createErrorResponse(ERROR_INVALID_TOKEN));
-        }
-        
         try {
+            if (!gitHubApiService.verifyToken(token)) {
+                return ResponseEntity.status(403).body(createErrorResponse(ERROR_INVALID_TOKEN));
+            }
+            
             Map<String, Object> fileData = gitHubApiService.getFileContent(OWNER, REPO, path, token);
             
             // Base64 디코딩
@@ -99,6 +144,8 @@ public class GitHubViewerController {
             }
             
             return ResponseEntity.ok(fileData);
+        } catch (GitHubRateLimitException e) {
+            return rateLimited(e).body(createErrorResponse(ERROR_RATE_LIMITED));
         } catch (Exception e) {
             log.error("Failed to get file content for path: {}", path, e);
             return ResponseEntity.status(500).body(createErrorResponse(ERROR_API_CALL_FAILED));
@@ -107,24 +154,77 @@ public class GitHubViewerController {
     
     /**
      * 간단한 텍스트 뷰 (Claude가 읽기 쉬운 형식)
+     * - 최신 커밋 SHA를 ETag로 사용 (gzip 응답은 "<sha>-gzip"으로 구분): If-None-Match가 같으면 304, 다르면 SHA 기준 스냅샷 캐시에서 응답
+     * - 캐시는 gzip으로 보관하므로 gzip을 받는 클라이언트에는 압축된 그대로 전송
+     * - 캐시에 없으면 생성하면서 바로 스트리밍 (chunked, gzip 가능 시 압축), 동시에 캐시용 gzip을 만들어 완료 시 저장
+     * - 같은 SHA를 생성 중인 요청이 있으면 wait-timeout-ms까지 결과를 기다림
+     * - 생성은 BULK 우선순위: rate limit 예산이 파일/구조 조회용 여유분만 남았으면 시작하지 않고 429 + Retry-After
      */
     @GetMapping("/text-view")
     @ResponseBody
-    public ResponseEntity<String> getTextView(@RequestParam String token) {
-        if (!gitHubApiService.verifyToken(token)) {
-            return ResponseEntity.status(403)
-                .body("Access denied: Invalid or missing token");
-        }
-        
+    public ResponseEntity<StreamingResponseBody> getTextView(
+            @RequestParam String token,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
         try {
-            String textView = generateTextView(token);
-            return ResponseEntity.ok()
-                .contentType(MediaType.TEXT_PLAIN)
-                .body(textView);
+            if (!gitHubApiService.verifyToken(token)) {
+                return ResponseEntity.status(403)
+                    .body(textBody("Access denied: Invalid or missing token"));
+            }
+            
+            String sha = gitHubApiService.getHeadCommitSha(OWNER, REPO, token);
+            boolean gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+            // 인코딩별로 바이트가 다르므로 strong ETag도 인코딩마다 다르게 부여
+            String etag = "\"" + sha + (gzip ? "-gzip" : "") + "\"";
+            if (matchesIfNoneMatch(ifNoneMatch, etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+            }
+            
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                .contentType(TEXT_PLAIN_UTF8);
+            if (gzip) {
+                response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+            }
+            
+            String key = OWNER + "-" + REPO + "-" + sha;
+            Optional<byte[]> cached = textViewCache.get(key);
+            if (cached.isEmpty()) {
+                rateLimitGovernor.checkBulk(token);
+                CompletableFuture<byte[]> running = textViewCache.begin(key);
+                if (running == null) {
+                    return response.body(streamTextView(key, sha, token, gzip));
+                }
+                // 다른 요청이 생성 중이면 결과를 기다림 (wait-timeout-ms까지만, 초과 시 503 + Retry-After)
+                cached = Optional.of(running.get(textViewWaitTimeoutMs, TimeUnit.MILLISECONDS));
+            }
+            byte[] body = gzip ? cached.get() : TextViewSnapshotCache.gunzip(cached.get());
+            return response.body(out -> out.write(body));
+        } catch (GitHubRateLimitException e) {
+            return rateLimited(e).body(textBody(ERROR_RATE_LIMITED));
+        } catch (TimeoutException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "5")
+                .body(textBody("Text view is still being generated, please retry shortly"));
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof GitHubRateLimitException rateLimited) {
+                return rateLimited(rateLimited).body(textBody(ERROR_RATE_LIMITED));
+            }
+            log.error("Failed to generate text view", e.getCause());
+            return ResponseEntity.status(500)
+                .body(textBody("Error: " + e.getCause().getMessage()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(textBody("Interrupted"));
         } catch (Exception e) {
             log.error("Failed to generate text view", e);
             return ResponseEntity.status(500)
-                .body("Error: " + e.getMessage());
+                .body(textBody("Error: " + e.getMessage()));
         }
     }
     
@@ -146,172 +246,134 @@ public class GitHubViewerController {
     }
     
     /**
-     * 텍스트 뷰 생성 (전체 저장소 요약)
+     * 디렉토리 목록의 한 페이지 (page는 0부터, size는 1 ~ max-page-size)
      */
-    private String generateTextView(String token) {
-        StringBuilder sb = new StringBuilder();
-        
-        // 헤더
-        sb.append("=== GitHub Repository: ").append(OWNER).append("/").append(REPO).append(" ===\n\n");
-        
-        // 저장소 정보
-        appendRepositoryInfo(sb, token);
-        
-        // 최근 커밋
-        appendRecentCommits(sb, token);
-        
-        // 파일 구조
-        sb.append("\n=== File Structure ===\n");
-        appendFileTree(sb, "", 0, token);
-        
-        // 소스 파일들
-        sb.append("\n=== Java Source Files ===\n\n");
-        appendJavaFiles(sb, "src/main/java", token);
-        
-        sb.append("\n=== Configuration Files ===\n\n");
-        appendConfigFiles(sb, token);
-        
-        sb.append("\n=== HTML Templates ===\n\n");
-        appendHtmlFiles(sb, "src/main/resources/templates", token);
+    private Map<String, Object> toPage(String path, List<Map<String, Object>> contents, int page, Integer size) {
+        int pageSize = Math.max(1, Math.min(size == null ? defaultPageSize : size, maxPageSize));
+        int total = contents.size();
+        int from = (int) Math.min((long) Math.max(page, 0) * pageSize, total);
+        int to = Math.min(from + pageSize, total);
         
-        return sb.toString();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("path", path);
+        result.put("items", contents.subList(from, to));
+        result.put("page", Math.max(page, 0));
+        result.put("size", pageSize);
+        result.put("total", total);
+        result.put("hasMore", to < total);
+        return result;
     }
     
     /**
-     * 저장소 정보 추가
+     * rate limit 초과 응답 (429, 다시 시도할 시점은 Retry-After)
      */
-    private void appendRepositoryInfo(StringBuilder sb, String token) {
-        Map<String, Object> repoInfo = gitHubApiService.getRepositoryInfo(OWNER, REPO, token);
-        sb.append("Description: ").append(repoInfo.get("description")).append("\n");
-        sb.append("Default Branch: ").append(repoInfo.get("default_branch")).append("\n\n");
-    }
-    
     /**
-     * 최근 커밋 정보 추가
+     * If-None-Match 비교 (쉼표로 구분된 목록, W/ 접두사는 무시하는 weak 비교, "*"는 항상 일치)
      */
-    private void appendRecentCommits(StringBuilder sb, String token) {
-        sb.append("=== Recent Commits ===\n");
-        List<Map<String, Object>> commits = gitHubApiService.getRecentCommits(OWNER, REPO, token, 5);
-        
-        for (Map<String, Object> commit : commits) {
-            Map<String, Object> commitInfo = (Map<String, Object>) commit.get("commit");
-            String sha = commit.get("sha").toString().substring(0, 7);
-            String message = (String) commitInfo.get("message");
-            sb.append("- ").append(sha).append(": ").append(message.split("\n")[0]).append("\n");
+    static boolean matchesIfNoneMatch(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
         }
+        return false;
+    }
+
+    private ResponseEntity.BodyBuilder rateLimited(GitHubRateLimitException e) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()));
     }
     
     /**
-     * 파일 트리 추가 (재귀)
+     * 고정 텍스트 응답 본문
      */
-    private void appendFileTree(StringBuilder sb, String path, int depth, String token) {
-        try {
-            List<Map<String, Object>> items = gitHubApiService.getContents(OWNER, REPO, path, token);
-            String indent = "  ".repeat(depth);
-            
-            for (Map<String, Object> item : items) {
-                String name = (String) item.get("name");
-                String type = (String) item.get("type");
-                
-                if (shouldSkipItem(name)) {
-                    continue;
-                }
-                
-                sb.append(indent)
-                    .append(type.equals("dir") ? "📁 " : "📄 ")
-                    .append(name)
-                    .append("\n");
-                
-                if (type.equals("dir") && depth < 3) {
-                    String newPath = path.isEmpty() ? name : path + "/" + name;
-                    appendFileTree(sb, newPath, depth + 1, token);
-                }
-            }
-        } catch (Exception e) {
-            log.warn("Failed to get file tree for path: {}", path, e);
-        }
+    private StreamingResponseBody textBody(String text) {
+        return out -> out.write(text.getBytes(StandardCharsets.UTF_8));
     }
     
     /**
-     * Java 파일 내용 추가
+     * 텍스트 뷰를 생성하면서 조각마다 클라이언트로 flush, 같은 내용을 캐시용 gzip 버퍼에도 기록
+     * - 클라이언트 응답은 gzip이면 SYNC_FLUSH 압축 스트림 (조각마다 바로 전송)
+     * - 클라이언트 연결이 끊겨도 생성은 끝까지 진행해 캐시에 저장 (같은 SHA를 기다리는 다른 요청이 실패하지 않도록)
+     * - 생성 자체가 실패한 경우에만 캐시는 fail 처리 (응답은 잘린 채 종료)
      */
-    private void appendJavaFiles(StringBuilder sb, String path, String token) {
-        try {
-            List<Map<String, Object>> items = gitHubApiService.getContents(OWNER, REPO, path, token);
-            
-            for (Map<String, Object> item : items) {
-                String name = (String) item.get("name");
-                String type = (String) item.get("type");
-                String itemPath = (String) item.get("path");
+    private StreamingResponseBody streamTextView(String key, String sha, String token, boolean gzip) {
+        return out -> {
+            ClientStream client = new ClientStream(out, gzip);
+            try {
+                ByteArrayOutputStream cacheBuffer = new ByteArrayOutputStream();
+                GZIPOutputStream cacheGzip = new GZIPOutputStream(cacheBuffer);
                 
-                if (type.equals("dir")) {
-                    appendJavaFiles(sb, itemPath, token);
-                } else if (name.endsWith(".java")) {
-                    appendFileContent(sb, itemPath, token);
-                }
+                textViewGenerator.write(OWNER, REPO, sha, token, chunk -> {
+                    byte[] bytes = chunk.getBytes(StandardCharsets.UTF_8);
+                    try {
+                        cacheGzip.write(bytes);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    client.write(bytes);
+                });
+                
+                cacheGzip.close();
+                textViewCache.complete(key, cacheBuffer.toByteArray());
+            } catch (RuntimeException | IOException e) {
+                textViewCache.fail(key, e);
+                log.error("Failed to stream text view", e);
+                throw e;
             }
-        } catch (Exception e) {
-            log.warn("Failed to append Java files from path: {}", path, e);
-        }
+            client.finish();
+        };
     }
     
     /**
-     * 설정 파일 내용 추가
+     * 텍스트 뷰 응답 스트림 (쓰기 실패 = 클라이언트 연결 종료 → 이후 조각은 버리고 예외를 내지 않음)
      */
-    private void appendConfigFiles(StringBuilder sb, String token) {
-        String[] configFiles = {
-            "pom.xml",
-            "src/main/resources/application.properties",
-            "src/main/resources/application-prod.properties"
-        };
+    private static final class ClientStream {
+        
+        private final OutputStream out;
+        private final boolean gzip;
+        private OutputStream stream;
+        private boolean gone;
         
-        for (String path : configFiles) {
-            appendFileContent(sb, path, token);
+        private ClientStream(OutputStream out, boolean gzip) {
+            this.out = out;
+            this.gzip = gzip;
         }
-    }
-    
-    /**
-     * HTML 파일 내용 추가
-     */
-    private void appendHtmlFiles(StringBuilder sb, String path, String token) {
-        try {
-            List<Map<String, Object>> items = gitHubApiService.getContents(OWNER, REPO, path, token);
-            
-            for (Map<String, Object> item : items) {
-                String name = (String) item.get("name");
-                String type = (String) item.get("type");
-                String itemPath = (String) item.get("path");
-                
-                if (type.equals("file") && name.endsWith(".html")) {
-                    appendFileContent(sb, itemPath, token);
+        
+        void write(byte[] bytes) {
+            if (gone) {
+                return;
+            }
+            try {
+                if (stream == null) {
+                    stream = gzip ? new GZIPOutputStream(out, true) : out;
                 }
+                stream.write(bytes);
+                stream.flush();
+            } catch (IOException e) {
+                gone = true;
+                log.debug("Text view client disconnected, continuing generation for cache: {}", e.getMessage());
             }
-        } catch (Exception e) {
-            log.warn("Failed to append HTML files from path: {}", path, e);
         }
-    }
-    
-    /**
-     * 파일 내용 추가
-     */
-    private void appendFileContent(StringBuilder sb, String path, String token) {
-        try {
-            sb.append("\n━━━ ").append(path).append(" ━━━\n");
-            Map<String, Object> fileData = gitHubApiService.getFileContent(OWNER, REPO, path, token);
-            String content = (String) fileData.get("content");
-            String decodedContent = gitHubApiService.decodeContent(content);
-            sb.append(decodedContent).append("\n");
-        } catch (Exception e) {
-            log.debug("File not found or error reading: {}", path);
+        
+        void finish() {
+            if (gone || stream == null) {
+                return;
+            }
+            try {
+                if (stream instanceof GZIPOutputStream gzipStream) {
+                    gzipStream.finish();
+                }
+            } catch (IOException e) {
+                log.debug("Text view client disconnected before the end of the response: {}", e.getMessage());
+            }
         }
     }
-    
-    /**
-     * 제외할 항목 판단
-     */
-    private boolean shouldSkipItem(String name) {
-        return name.equals("target") || 
-               name.equals(".git") || 
-               name.equals("node_modules");
-    }
-}
\ No newline at end of file
+}
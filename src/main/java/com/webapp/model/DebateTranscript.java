@@ -0,0 +1,43 @@
+package com.webapp.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+
+/**
+ * 완료된 AI 토론 기록 (재생/공유용)
+ * - id는 완료 시 새로 발급하는 임의 UUID (세션 ID와 무관, 완료 메시지로 전달되어 공유 링크에 사용)
+ * - topicKey: 정규화한 주제 (같은 주제 재요청 시 조회 키)
+ * - messages: 발언 목록 JSON ([{speaker, message}, ...])
+ */
+@Entity
+@Table(name = "debate_transcripts", indexes = @Index(name = "idx_debate_transcripts_topic_key", columnList = "topic_key, turns"))
+@Data
+@NoArgsConstructor
+public class DebateTranscript {
+
+    @Id
+    @Column(length = 36)
+    private String id;
+
+    @Column(name = "topic_key", nullable = false, length = 200)
+    private String topicKey;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String topic;
+
+    @Column(nullable = false)
+    private Integer turns;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String messages;
+
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
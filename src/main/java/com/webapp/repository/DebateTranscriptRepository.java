@@ -0,0 +1,11 @@
+package com.webapp.repository;
+
+import com.webapp.model.DebateTranscript;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import java.util.Optional;
+
+@Repository
+public interface DebateTranscriptRepository extends JpaRepository<DebateTranscript, String> {
+    Optional<DebateTranscript> findFirstByTopicKeyAndTurnsOrderByCreatedAtDesc(String topicKey, Integer turns);
+}
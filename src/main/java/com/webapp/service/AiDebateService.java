@@ -1,15 +1,29 @@
 package com.webapp.service;
 
+import com.webapp.model.DebateTranscript;
+import com.webapp.service.debate.DebateArchive;
+import com.webapp.service.debate.DebateSession;
+import com.webapp.service.debate.DebateSessionStore;
+import com.webapp.service.debate.DebateTurn;
+import com.webapp.service.debate.DebateUpdatePublisher;
+import com.webapp.service.debate.DeltaCoalescer;
+import com.webapp.service.debate.SpeculativeTurn;
 import com.webapp.util.ResponseUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.messaging.simp.SimpMessagingTemplate; // WebSocket 메시지 전송용
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 @Slf4j
 @Service
@@ -17,108 +31,385 @@ import java.util.concurrent.ConcurrentHashMap;
 public class AiDebateService {
 
     private final OpenRouterApiService openRouterApiService;
-    private final SimpMessagingTemplate messagingTemplate; // WebSocket 메시지 전송용
+    private final DebateUpdatePublisher updatePublisher; // WebSocket(STOMP) 메시지 발행 (순서 보장, 조각 backpressure)
+    private final DebateSessionStore sessionStore; // 진행 중인 토론 상태 (TTL/세션 수 제한, 최근 턴 + 요약)
+    private final ScheduledExecutorService debateScheduler; // 턴 진행 예약 실행
+    private final DebateArchive debateArchive; // 완료된 토론 저장/재생
 
     @Value("${ai.debate.max-turns}")
     private int maxDebateTurns;
 
+    @Value("${ai.debate.turn-delay-ms:1000}")
+    private long turnDelayMs;
+
+    @Value("${ai.debate.stream.enabled:true}")
+    private boolean streamEnabled;
+
+    @Value("${ai.debate.stream.flush-interval-ms:100}")
+    private long streamFlushIntervalMs;
+
+    @Value("${ai.debate.stream.max-chunk-chars:200}")
+    private int streamMaxChunkChars;
+
+    @Value("${ai.debate.speculation.enabled:false}")
+    private boolean speculationEnabled;
+
+    @Value("${ai.debate.speculation.min-chars:120}")
+    private int speculationMinChars;
+
+    @Value("${ai.debate.speculation.opening-max-tokens:48}")
+    private int speculationOpeningMaxTokens;
+
+    @Value("${ai.debate.replay.chars-per-second:40}")
+    private int replayCharsPerSecond;
+
     private static final String MODEL_AI1 = "meta-llama/llama-3.1-8b-instruct"; // AI 1 모델
     private static final String MODEL_AI2 = "qwen/qwen-2.5-7b-instruct";        // AI 2 모델
 
-    // 진행 중인 토론의 상태를 관리 (예: sessionId -> conversationHistory)
-    private final Map<String, StringBuilder> ongoingDebates = new ConcurrentHashMap<>();
+    /**
+     * 토론 시작 (즉시 반환)
+     * - 턴마다 upstream 응답 future 완료 → 결과 전송 → 다음 턴을 turn-delay-ms 뒤로 예약하는 상태 머신으로 진행
+     * - 응답 대기나 턴 간격 동안 어떤 스레드도 점유하지 않음
+     * - allowReplay이고 같은 주제/턴 수의 저장된 토론이 있으면 upstream 호출 없이 저장된 토론을 재생
+     * - 같은 세션 ID로 이미 진행 중이면 무시 (진행 중인 토론은 그대로 계속)
+     */
+    public void startDebate(String sessionId, String topic, int requestedTurns, boolean allowReplay) {
+        log.info("AI 토론 시작 - 세션 ID: {}, 주제: {}, 요청 턴 수: {}", sessionId, topic, requestedTurns);
+
+        Optional<DebateSession> opened = sessionStore.open(sessionId, topic); // 새 토론 등록
+        if (opened.isEmpty()) {
+            if (sessionStore.get(sessionId).isPresent()) {
+                // 같은 세션의 중복 시작 요청 (재전송/재연결): 진행 중인 토론이 같은 destination으로 계속 전송되므로 무시
+                log.info("이미 진행 중인 AI 토론 - 중복 시작 요청 무시, 세션 ID: {}", sessionId);
+                return;
+            }
+            sendErrorToClient(sessionId, "동시에 진행 중인 토론이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+            return;
+        }
 
-    @Async // 비동기적으로 실행
-    public void startDebateAsync(String sessionId, String topic, int requestedTurns) {
-        log.info("비동기 AI 토론 시작 - 세션 ID: {}, 주제: {}, 요청 턴 수: {}", sessionId, topic, requestedTurns);
+        final int actualDebateTurns = Math.min(requestedTurns, maxDebateTurns);
 
-        StringBuilder conversationHistory = new StringBuilder();
-        ongoingDebates.put(sessionId, conversationHistory); // 새 토론 등록
+        Optional<DebateTranscript> saved = allowReplay ? debateArchive.findReplay(topic, actualDebateTurns) : Optional.empty();
+        Optional<List<DebateTurn>> savedMessages = saved.flatMap(debateArchive::messagesOf); // 읽을 수 없는 기록이면 새 토론
+        if (savedMessages.isPresent()) {
+            startReplay(opened.get(), saved.get(), savedMessages.get());
+            return;
+        }
+
+        // AI 1 (찬성) 초기 프롬프트 (침착맨 스타일)
+        String initialPromptAi1 = String.format(
+            "당신은 인터넷 방송인 침착맨처럼 행동하는 AI 토론자입니다. 침 vs 펄 엄근진 토론처럼 토론합니다. 실제 침착맨은 아니기 때문에 AI로 호칭됩니다. AI2와 대립합니다. 답변은 5줄 이내로 말합니다. 주어진 주제에 대해 찬성하는 입장을 유쾌하고 다소 엉뚱한 비유와 함께 주장해주세요. 너무 진지하지 않게, 살짝 능청스럽거나 허를 찌르는 발언으로 토론을 이끌어가세요. 이전 대화를 참고하되, 핵심을 찌르거나 시시콜콜한 농담을 섞어 논리적으로 반박하거나 주장을 강화하세요. 주제: %s", topic
+        );
+
+        // AI 2 (반대) 초기 프롬프트 (주호민 스타일)
+        String initialPromptAi2 = String.format(
+            "당신은 웹툰 작가 주호민처럼 행동하는 AI 토론자입니다. 침 vs 펄 엄근진 토론처럼 토론합니다. 실제 침착맨은 아니기 때문에 AI로 호칭됩니다. 답변은 5줄 이내로 말합니다. AI2와 대립합니다. 주어진 주제에 대해 반대하는 입장을 현실적이고 냉소적인 시각으로 주장해주세요. 간결하면서도 핵심을 꿰뚫는 분석과 함께, 때로는 엉뚱하지만 설득력 있는 논리를 펼치세요. 이전 대화를 참고하여 불편한 진실을 끄집어내거나, 예상치 못한 방향으로 토론을 이끌어 반박하거나 주장을 강화하세요. 주제: %s", topic
+        );
+
+        // AI 1이 시작하고 번갈아 발언, 마지막 턴은 AI 2가 마무리 (턴 수 n → 발언 2n - 2개, n = 1이면 AI 1 한 번)
+        int totalMessages = actualDebateTurns == 1 ? 1 : actualDebateTurns * 2 - 2;
+        DebatePlan plan = new DebatePlan(opened.get(), actualDebateTurns, totalMessages, initialPromptAi1, initialPromptAi2,
+            new ConcurrentHashMap<>(), new ArrayList<>());
+        // 완료/실패/TTL 만료로 세션이 닫히면 채택되지 않은 추측 실행 발언의 upstream 호출 중단
+        plan.session().onClose(() -> cancelSpeculations(plan));
+        scheduleTurn(plan, 0);
+    }
+
+    private void scheduleTurn(DebatePlan plan, long delayMs) {
+        try {
+            debateScheduler.schedule(() -> runTurn(plan), delayMs, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) { // 애플리케이션 종료 중
+            failDebate(plan.session(), "AI 토론 중단됨");
+        }
+    }
+
+    /**
+     * 다음 발언자의 프롬프트를 만들어 upstream 호출, 완료 시 onTurnCompleted로 이어짐
+     */
+    private void runTurn(DebatePlan plan) {
+        DebateSession session = plan.session();
+        if (session.isClosed()) { // TTL 만료로 제거된 세션
+            log.info("만료된 세션의 AI 토론 중단 - 세션 ID: {}", session.getSessionId());
+            return;
+        }
 
         try {
-            final int actualDebateTurns = Math.min(requestedTurns, maxDebateTurns);
-
-            // AI 1 (찬성) 초기 프롬프트 (침착맨 스타일)
-            String initialPromptAi1 = String.format(
-                "당신은 인터넷 방송인 침착맨처럼 행동하는 AI 토론자입니다. 침 vs 펄 엄근진 토론처럼 토론합니다. 실제 침착맨은 아니기 때문에 AI로 호칭됩니다. AI2와 대립합니다. 답변은 5줄 이내로 말합니다. 주어진 주제에 대해 찬성하는 입장을 유쾌하고 다소 엉뚱한 비유와 함께 주장해주세요. 너무 진지하지 않게, 살짝 능청스럽거나 허를 찌르는 발언으로 토론을 이끌어가세요. 이전 대화를 참고하되, 핵심을 찌르거나 시시콜콜한 농담을 섞어 논리적으로 반박하거나 주장을 강화하세요. 주제: %s", topic
-            );
-
-            // AI 2 (반대) 초기 프롬프트 (주호민 스타일)
-            String initialPromptAi2 = String.format(
-                "당신은 웹툰 작가 주호민처럼 행동하는 AI 토론자입니다. 침 vs 펄 엄근진 토론처럼 토론합니다. 실제 침착맨은 아니기 때문에 AI로 호칭됩니다. 답변은 5줄 이내로 말합니다. AI2와 대립합니다. 주어진 주제에 대해 반대하는 입장을 현실적이고 냉소적인 시각으로 주장해주세요. 간결하면서도 핵심을 꿰뚫는 분석과 함께, 때로는 엉뚱하지만 설득력 있는 논리를 펼치세요. 이전 대화를 참고하여 불편한 진실을 끄집어내거나, 예상치 못한 방향으로 토론을 이끌어 반박하거나 주장을 강화하세요. 주제: %s", topic
-            );
-
-            // 첫 번째 턴 (AI 1 시작)
-            String ai1Response = callAiModel(MODEL_AI1, initialPromptAi1, 300, 0.7);
-            if (ai1Response == null) {
-                sendErrorToClient(sessionId, "AI 1 응답 생성 실패");
+            int turn = session.getTurnCount();
+            String speaker = speakerOf(turn);
+
+            if (!streamEnabled) {
+                callAiModelAsync(modelOf(turn), promptFor(plan, turn, null), 300, 0.7)
+                    .whenComplete((response, error) -> onTurnCompleted(plan, speaker, response, error));
                 return;
             }
-            sendDebateUpdate(sessionId, "AI 1", ai1Response, false);
-            conversationHistory.append("AI 1: ").append(ai1Response).append("\n");
-            Thread.sleep(1000); // UI 업데이트를 위한 딜레이
-
-            for (int i = 1; i < actualDebateTurns; i++) {
-                // AI 2 턴
-                String promptForAi2 = initialPromptAi2 + "\n\n현재까지의 토론:\n" + conversationHistory.toString();
-                String ai2Response = callAiModel(MODEL_AI2, promptForAi2, 300, 0.7);
-                if (ai2Response == null) {
-                    sendErrorToClient(sessionId, "AI 2 응답 생성 실패");
-                    return;
-                }
-                sendDebateUpdate(sessionId, "AI 2", ai2Response, false);
-                conversationHistory.append("AI 2: ").append(ai2Response).append("\n");
-                Thread.sleep(1000); // UI 업데이트를 위한 딜레이
-
-                if (i < actualDebateTurns - 1) { // 마지막 턴은 AI 2가 마무리
-                    // AI 1 턴
-                    String promptForAi1 = initialPromptAi1 + "\n\n현재까지의 토론:\n" + conversationHistory.toString();
-                    ai1Response = callAiModel(MODEL_AI1, promptForAi1, 300, 0.7);
-                    if (ai1Response == null) {
-                        sendErrorToClient(sessionId, "AI 1 응답 생성 실패");
-                        return;
+
+            // 생성 중인 텍스트를 일정 간격으로 묶어 전송, 완료 시 남은 조각을 보낸 뒤 전체 발언 전송
+            DeltaCoalescer coalescer = new DeltaCoalescer(debateScheduler, streamFlushIntervalMs, streamMaxChunkChars,
+                delta -> sendDebateDelta(session.getSessionId(), speaker, turn, delta));
+            Consumer<String> onDelta = speculateNextTurn(plan, turn, coalescer::append);
+
+            // 이전 턴 진행 중에 미리 생성한 도입부가 있으면 채택 (도입부는 즉시 전송, 나머지는 전체 기록으로 생성 중)
+            SpeculativeTurn speculative = plan.speculations().remove(turn);
+            CompletableFuture<String> response = speculative != null
+                ? speculative.adopt(onDelta)
+                : streamAiModelAsync(modelOf(turn), promptFor(plan, turn, null), 300, 0.7, onDelta);
+            response.whenComplete((result, error) -> {
+                coalescer.close();
+                onTurnCompleted(plan, speaker, result, error);
+            });
+        } catch (Exception e) {
+            log.error("AI 토론 턴 실행 중 오류 발생", e);
+            failDebate(session, "AI 토론 중 오류 발생: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 추측 실행 모드: 현재 발언이 speculation.min-chars만큼 생성되면 그 시점까지의 부분 발언을 보고
+     * 다음 발언의 도입부(첫 문장, opening-max-tokens 이내)만 미리 생성
+     * - 현재 발언이 끝나면 onTurnCompleted에서 confirm → 전체 기록을 보고 도입부 뒤를 이어 생성 (턴 간격과 upstream 대기가 겹침)
+     * - 발언 본문은 항상 전체 기록으로 생성되므로 부분 발언만 보고 만든 내용은 도입부 한 문장으로 제한됨
+     */
+    private Consumer<String> speculateNextTurn(DebatePlan plan, int turn, Consumer<String> sink) {
+        if (!speculationEnabled || turn + 1 >= plan.totalMessages()) {
+            return sink;
+        }
+        StringBuilder partial = new StringBuilder();
+        return delta -> {
+            sink.accept(delta);
+            String snapshot = null;
+            synchronized (partial) {
+                if (partial.length() < speculationMinChars) {
+                    partial.append(delta);
+                    if (partial.length() >= speculationMinChars) {
+                        snapshot = partial.toString();
                     }
-                    sendDebateUpdate(sessionId, "AI 1", ai1Response, false);
-                    conversationHistory.append("AI 1: ").append(ai1Response).append("\n");
-                    Thread.sleep(1000); // UI 업데이트를 위한 딜레이
                 }
             }
-            sendDebateUpdate(sessionId, "System", "AI 토론이 완료되었습니다.", true); // 토론 완료 메시지
+            if (snapshot != null && !plan.session().isClosed()) {
+                String partialTurn = snapshot;
+                int next = turn + 1;
+                plan.speculations().put(next, SpeculativeTurn.start(partialTurn,
+                    onDelta -> streamAiModelAsync(modelOf(next), openingPrompt(plan, next, partialTurn),
+                        speculationOpeningMaxTokens, 0.7, onDelta),
+                    (opening, onDelta) -> streamAiModelAsync(modelOf(next), continuationPrompt(plan, next, opening),
+                        300, 0.7, onDelta)));
+                if (plan.session().isClosed()) { // 시작하는 사이 세션이 닫힘 (close 리스너가 이미 실행됨)
+                    cancelSpeculations(plan);
+                }
+            }
+        };
+    }
 
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            log.warn("AI 토론 비동기 스레드 중단됨", e);
-            sendErrorToClient(sessionId, "AI 토론 중단됨");
-        } catch (Exception e) {
-            log.error("비동기 AI 토론 중 오류 발생", e);
-            sendErrorToClient(sessionId, "AI 토론 중 오류 발생: " + e.getMessage());
-        } finally {
-            ongoingDebates.remove(sessionId); // 토론 종료 후 상태 제거
-            log.info("비동기 AI 토론 종료 - 세션 ID: {}", sessionId);
+    private void cancelSpeculations(DebatePlan plan) {
+        plan.speculations().values().removeIf(speculative -> {
+            speculative.cancel();
+            return true;
+        });
+    }
+
+    /**
+     * 턴 프롬프트 (첫 턴은 초기 프롬프트만, 이후는 토론 컨텍스트 추가)
+     *
+     * @param partialPrevious 추측 실행 시 아직 생성 중인 직전 발언 (없으면 null)
+     */
+    private String promptFor(DebatePlan plan, int turn, String partialPrevious) {
+        String prompt = turn % 2 == 0 ? plan.promptAi1() : plan.promptAi2();
+        if (turn > 0) {
+            prompt += "\n\n" + plan.session().context();
         }
+        if (partialPrevious != null) {
+            prompt += speakerOf(turn - 1) + " (발언 중): " + partialPrevious + "\n";
+        }
+        return prompt;
+    }
+
+    /**
+     * 추측 실행: 부분 발언까지의 기록으로 다음 발언의 도입부만 요청
+     */
+    private String openingPrompt(DebatePlan plan, int turn, String partialPrevious) {
+        return promptFor(plan, turn, partialPrevious)
+            + "\n이번 발언의 첫 문장(상대 발언에 대한 반박 방향)만 한 문장으로 말하세요.";
     }
 
-    private String callAiModel(String model, String prompt, int maxTokens, double temperature) {
-        Map<String, Object> apiResponse = openRouterApiService.callOpenRouterModel(model, prompt, maxTokens, temperature, null);
-        if (apiResponse != null && (Boolean) apiResponse.get("success")) {
-            return (String) apiResponse.get("result");
+    /**
+     * 추측 실행: 직전 발언이 끝난 전체 기록으로 도입부 뒤에 이어질 부분 요청 (도입부가 없으면 일반 턴 프롬프트)
+     */
+    private String continuationPrompt(DebatePlan plan, int turn, String opening) {
+        String prompt = promptFor(plan, turn, null);
+        if (opening.isEmpty()) {
+            return prompt;
         }
-        return null;
+        return prompt + "\n이번 발언은 이미 다음 문장으로 시작했습니다: \"" + opening + "\"\n"
+            + "이 문장을 반복하지 말고 바로 뒤에 이어질 내용만 말하세요. 전체 발언은 5줄 이내입니다.";
     }
 
-    private void sendDebateUpdate(String sessionId, String speaker, String message, boolean isCompleted) {
+    private static String speakerOf(int turn) {
+        return turn % 2 == 0 ? "AI 1" : "AI 2";
+    }
+
+    private static String modelOf(int turn) {
+        return turn % 2 == 0 ? MODEL_AI1 : MODEL_AI2;
+    }
+
+    private void onTurnCompleted(DebatePlan plan, String speaker, String response, Throwable error) {
+        DebateSession session = plan.session();
+        String sessionId = session.getSessionId();
+        if (session.isClosed()) {
+            return;
+        }
+        if (error != null || response == null) {
+            failDebate(session, speaker + " 응답 생성 실패");
+            return;
+        }
+
+        sendDebateUpdate(sessionId, speaker, session.getTurnCount(), response, false);
+        session.addTurn(speaker, response);
+        plan.transcript().add(new DebateTurn(speaker, response));
+
+        // 이 발언의 앞부분으로 미리 만든 다음 발언 도입부: 최종 발언과 맞으면 이어지는 부분 생성 시작, 다르면 폐기
+        SpeculativeTurn next = plan.speculations().get(session.getTurnCount());
+        if (next != null && !next.confirm(response)) {
+            plan.speculations().remove(session.getTurnCount());
+            log.debug("추측 실행 도입부 폐기 (직전 발언 불일치) - 세션 ID: {}, 턴: {}", sessionId, session.getTurnCount());
+        }
+
+        if (session.getTurnCount() >= plan.totalMessages()) {
+            String transcriptId = debateArchive.newTranscriptId();
+            debateArchive.save(transcriptId, sessionId, session.getTopic(), plan.turns(), plan.transcript()); // 재생/공유용 저장 (비동기)
+            sendDebateCompleted(sessionId, session.getTurnCount(), "AI 토론이 완료되었습니다.", transcriptId); // 토론 완료 메시지
+            sessionStore.close(sessionId); // 토론 종료 후 상태 제거
+            log.info("AI 토론 종료 - 세션 ID: {}", sessionId);
+            return;
+        }
+        scheduleTurn(plan, turnDelayMs); // UI 업데이트를 위한 간격 (스레드 대기 없이 예약)
+    }
+
+    /**
+     * 저장된 토론 재생 시작 (라이브 토론과 같은 destination/메시지 형식)
+     */
+    private void startReplay(DebateSession session, DebateTranscript transcript, List<DebateTurn> messages) {
+        log.info("저장된 AI 토론 재생 - 세션 ID: {}, 기록 ID: {}", session.getSessionId(), transcript.getId());
+        sendDebateUpdate(session.getSessionId(), "System", 0, "같은 주제로 진행된 토론을 다시 보여드립니다.", false);
+        scheduleReplay(new ReplayPlan(session, transcript.getId(), messages), 0, 0);
+    }
+
+    private void scheduleReplay(ReplayPlan plan, int offset, long delayMs) {
+        try {
+            debateScheduler.schedule(() -> replayStep(plan, offset), delayMs, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) { // 애플리케이션 종료 중
+            failDebate(plan.session(), "AI 토론 중단됨");
+        }
+    }
+
+    /**
+     * 재생 한 단계: 현재 발언을 stream.flush-interval-ms마다 replay.chars-per-second 속도로 조각 전송,
+     * 발언이 끝나면 전체 발언 전송 후 turn-delay-ms 뒤 다음 발언
+     */
+    private void replayStep(ReplayPlan plan, int offset) {
+        DebateSession session = plan.session();
+        if (session.isClosed()) {
+            return;
+        }
+        String sessionId = session.getSessionId();
+        int turn = session.getTurnCount();
+        DebateTurn current = plan.messages().get(turn);
+        String message = current.message();
+
+        if (streamEnabled && offset < message.length()) {
+            int chunkChars = (int) Math.max(1, replayCharsPerSecond * streamFlushIntervalMs / 1000);
+            int end = Math.min(message.length(), offset + chunkChars);
+            if (end < message.length() && Character.isHighSurrogate(message.charAt(end - 1))) {
+                end++; // 서로게이트 쌍을 나누지 않음
+            }
+            // 발행 큐 포화/느린 구독자로 거부되면 같은 위치부터 다시 시도
+            boolean accepted = sendDebateDelta(sessionId, current.speaker(), turn, message.substring(offset, end));
+            scheduleReplay(plan, accepted ? end : offset, streamFlushIntervalMs);
+            return;
+        }
+
+        sendDebateUpdate(sessionId, current.speaker(), turn, message, false);
+        session.addTurn(current.speaker(), message);
+
+        if (session.getTurnCount() >= plan.messages().size()) {
+            sendDebateCompleted(sessionId, session.getTurnCount(), "AI 토론이 완료되었습니다. (저장된 토론 재생)", plan.transcriptId());
+            sessionStore.close(sessionId);
+            log.info("저장된 AI 토론 재생 종료 - 세션 ID: {}", sessionId);
+            return;
+        }
+        scheduleReplay(plan, 0, turnDelayMs);
+    }
+
+    private void failDebate(DebateSession session, String errorMessage) {
+        sendErrorToClient(session.getSessionId(), errorMessage);
+        sessionStore.close(session.getSessionId());
+    }
+
+    private CompletableFuture<String> callAiModelAsync(String model, String prompt, int maxTokens, double temperature) {
+        return openRouterApiService.callOpenRouterModelAsync(model, prompt, maxTokens, temperature)
+            .thenApply(this::extractResult);
+    }
+
+    private CompletableFuture<String> streamAiModelAsync(String model, String prompt, int maxTokens, double temperature,
+                                                         Consumer<String> onDelta) {
+        CompletableFuture<Map<String, Object>> upstream =
+            openRouterApiService.streamOpenRouterModel(model, prompt, maxTokens, temperature, onDelta);
+        CompletableFuture<String> result = upstream.thenApply(this::extractResult);
+        result.whenComplete((response, error) -> {
+            if (result.isCancelled()) { // 취소를 upstream 스트리밍 호출까지 전달
+                upstream.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    private String extractResult(Map<String, Object> apiResponse) {
+        return apiResponse != null && (Boolean) apiResponse.get("success") ? (String) apiResponse.get("result") : null;
+    }
+
+    private void sendDebateUpdate(String sessionId, String speaker, int turn, String message, boolean isCompleted) {
         Map<String, Object> payload = Map.of(
             "sessionId", sessionId,
             "speaker", speaker,
+            "turn", turn,
             "message", message,
             "isCompleted", isCompleted
         );
         // 클라이언트의 고유한 세션 ID를 사용하여 특정 클라이언트에게 메시지를 보냄
         // /topic/ai-debate-updates/{sessionId} 로 메시지를 보냄
-        messagingTemplate.convertAndSend("/topic/ai-debate-updates/" + sessionId, payload);
+        updatePublisher.publish(sessionId, payload);
         log.debug("Debate update sent to sessionId {}: {} - {}", sessionId, speaker, message);
     }
 
+    /**
+     * 토론 완료 메시지 (transcriptId: 저장된 토론 기록 ID, 공유 링크용)
+     */
+    private void sendDebateCompleted(String sessionId, int turn, String message, String transcriptId) {
+        Map<String, Object> payload = Map.of(
+            "sessionId", sessionId,
+            "speaker", "System",
+            "turn", turn,
+            "message", message,
+            "transcriptId", transcriptId,
+            "isCompleted", true
+        );
+        updatePublisher.publish(sessionId, payload);
+    }
+
+    /**
+     * 생성 중인 발언의 텍스트 조각 전송 (같은 turn의 조각을 이어 붙이면 발언이 됨, 완료 후 전체 발언이 한 번 더 전송됨)
+     * - 발행 큐가 포화면 false (DeltaCoalescer가 다음 조각과 합쳐 재시도)
+     */
+    private boolean sendDebateDelta(String sessionId, String speaker, int turn, String delta) {
+        Map<String, Object> payload = Map.of(
+            "sessionId", sessionId,
+            "speaker", speaker,
+            "turn", turn,
+            "delta", delta,
+            "isCompleted", false
+        );
+        return updatePublisher.tryPublishDelta(sessionId, payload);
+    }
+
     public void sendErrorToClient(String sessionId, String errorMessage) {
         Map<String, Object> payload = Map.of(
             "sessionId", sessionId,
@@ -126,7 +417,22 @@ public class AiDebateService {
             "message", errorMessage,
             "isCompleted", true
         );
-        messagingTemplate.convertAndSend("/topic/ai-debate-updates/" + sessionId, payload);
+        updatePublisher.publish(sessionId, payload);
         log.error("Debate error sent to sessionId {}: {}", sessionId, errorMessage);
     }
+
+    /**
+     * 진행 중인 토론의 고정 정보 (발언 순서와 진행 상황은 DebateSession의 턴 수로 결정)
+     * - speculations: 턴 번호 → 미리 생성을 시작한 발언 도입부 (추측 실행 모드)
+     * - transcript: 전체 발언 기록 (완료 시 저장, 턴 진행 순서대로만 추가됨)
+     */
+    private record DebatePlan(DebateSession session, int turns, int totalMessages, String promptAi1, String promptAi2,
+                              Map<Integer, SpeculativeTurn> speculations, List<DebateTurn> transcript) {
+    }
+
+    /**
+     * 재생 중인 저장된 토론 (진행 상황은 DebateSession의 턴 수로 결정)
+     */
+    private record ReplayPlan(DebateSession session, String transcriptId, List<DebateTurn> messages) {
+    }
 }
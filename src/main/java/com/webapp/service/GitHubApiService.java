@@ -1,13 +1,26 @@
 package com.webapp.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.webapp.service.github.ConditionalResponseCache;
+import com.webapp.service.github.ConditionalResponseCache.CachedResponse;
+import com.webapp.service.github.RateLimitGovernor;
+import com.webapp.service.github.TokenVerificationCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestClientResponseException;
 import org.springframework.web.client.RestTemplate;
 
+import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.function.Predicate;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
 
 /**
  * GitHub API 호출을 위한 공통 서비스
@@ -22,19 +35,40 @@ public class GitHubApiService {
     private static final String GITHUB_API_VERSION = "application/vnd.github.v3+json";
     
     private final RestTemplate restTemplate;
+    private final TokenVerificationCache tokenVerificationCache;
+    private final ConditionalResponseCache responseCache;
+    private final ObjectMapper objectMapper;
+    private final RateLimitGovernor rateLimitGovernor;
     
     /**
      * GitHub 토큰 검증
+     * - 결과를 토큰 해시 기준으로 잠시 캐시 (유효/무효 모두), 네트워크 오류 등 일시적 실패는 캐시하지 않음
+     * - rate limit 초과는 무효 토큰과 구분되도록 GitHubRateLimitException으로 전달
      */
     public boolean verifyToken(String token) {
         if (token == null || token.trim().isEmpty()) {
             return false;
         }
         
+        Optional<Boolean> cached = tokenVerificationCache.get(token);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        
         try {
             String url = GITHUB_API_BASE_URL + "/user";
             ResponseEntity<Map> response = executeGet(url, token, Map.class);
-            return response.getStatusCode().is2xxSuccessful();
+            boolean valid = response.getStatusCode().is2xxSuccessful();
+            tokenVerificationCache.put(token, valid);
+            return valid;
+        } catch (GitHubRateLimitException e) {
+            throw e;
+        } catch (GitHubApiException e) {
+            if (e.getCause() instanceof HttpClientErrorException.Unauthorized) { // 무효한 토큰만 negative 캐시
+                tokenVerificationCache.put(token, false);
+            }
+            log.error("Token verification failed", e);
+            return false;
         } catch (Exception e) {
             log.error("Token verification failed", e);
             return false;
@@ -46,38 +80,113 @@ public class GitHubApiService {
      */
     public Map<String, Object> getRepositoryInfo(String owner, String repo, String token) {
         String url = String.format("%s/repos/%s/%s", GITHUB_API_BASE_URL, owner, repo);
-        ResponseEntity<Map> response = executeGet(url, token, Map.class);
-        return response.getBody();
+        return executeCachedGet(url, token, Map.class);
     }
     
     /**
      * 최근 커밋 목록 조회
      */
     public List<Map<String, Object>> getRecentCommits(String owner, String repo, String token, int limit) {
-        String url = String.format("%s/repos/%s/%s/commits?per_page=%d", 
-            GITHUB_API_BASE_URL, owner, repo, limit);
-        ResponseEntity<List> response = executeGet(url, token, List.class);
-        return response.getBody();
+        return getRecentCommits(owner, repo, null, token, limit);
+    }
+    
+    /**
+     * 지정한 커밋/브랜치(ref)부터의 최근 커밋 목록 조회 (ref가 null이면 기본 브랜치)
+     */
+    public List<Map<String, Object>> getRecentCommits(String owner, String repo, String ref, String token, int limit) {
+        String url = String.format("%s/repos/%s/%s/commits?per_page=%d%s", 
+            GITHUB_API_BASE_URL, owner, repo, limit, ref == null ? "" : "&sha=" + ref);
+        return executeCachedGet(url, token, List.class);
     }
     
     /**
      * 파일/디렉토리 구조 조회
      */
     public List<Map<String, Object>> getContents(String owner, String repo, String path, String token) {
-        String url = String.format("%s/repos/%s/%s/contents/%s", 
-            GITHUB_API_BASE_URL, owner, repo, path);
-        ResponseEntity<List> response = executeGet(url, token, List.class);
-        return response.getBody();
+        return getContents(owner, repo, path, null, token);
+    }
+    
+    /**
+     * 지정한 커밋/브랜치(ref) 기준 파일/디렉토리 구조 조회 (ref가 null이면 기본 브랜치)
+     */
+    public List<Map<String, Object>> getContents(String owner, String repo, String path, String ref, String token) {
+        return executeCachedGet(contentsUrl(owner, repo, path, ref), token, List.class);
     }
     
     /**
      * 파일 내용 조회 (단일 파일)
      */
     public Map<String, Object> getFileContent(String owner, String repo, String path, String token) {
-        String url = String.format("%s/repos/%s/%s/contents/%s", 
-            GITHUB_API_BASE_URL, owner, repo, path);
-        ResponseEntity<Map> response = executeGet(url, token, Map.class);
-        return response.getBody();
+        return getFileContent(owner, repo, path, null, token);
+    }
+    
+    /**
+     * 지정한 커밋/브랜치(ref) 기준 파일 내용 조회 (ref가 null이면 기본 브랜치)
+     */
+    public Map<String, Object> getFileContent(String owner, String repo, String path, String ref, String token) {
+        return executeCachedGet(contentsUrl(owner, repo, path, ref), token, Map.class);
+    }
+    
+    /**
+     * 기본 브랜치 최신 커밋 SHA (ETag 재검증으로 변경이 없으면 304 → rate limit 미차감)
+     */
+    public String getHeadCommitSha(String owner, String repo, String token) {
+        List<Map<String, Object>> commits = getRecentCommits(owner, repo, token, 1);
+        if (commits == null || commits.isEmpty()) {
+            throw new GitHubApiException("No commits found: " + owner + "/" + repo, null);
+        }
+        return (String) commits.get(0).get("sha");
+    }
+    
+    /**
+     * 전체 파일 트리 조회 (git/trees, 한 번의 요청)
+     * - tree: [{path, type(blob/tree), sha, size}, ...] (전위 순회 순서), truncated: 항목 수 제한으로 잘렸는지 여부
+     */
+    public Map<String, Object> getTree(String owner, String repo, String ref, String token) {
+        String url = String.format("%s/repos/%s/%s/git/trees/%s?recursive=1",
+            GITHUB_API_BASE_URL, owner, repo, ref);
+        return executeCachedGet(url, token, Map.class);
+    }
+    
+    /**
+     * 저장소 압축 파일(zipball)을 한 번에 내려받아 스트리밍으로 풀면서 필요한 파일을 도착 순서대로 전달
+     * - 압축 파일 전체를 메모리/디스크에 두지 않음 (한 번에 파일 하나만 메모리에 있음)
+     * - 경로는 저장소 루트 기준 (zip 최상위 "{owner}-{repo}-{sha}/" 디렉토리 제거), 항목 순서는 git 트리 순서
+     *
+     * @param include  전달할 파일 경로 조건
+     * @param consumer 경로, 파일 내용(UTF-8)
+     */
+    public void forEachFile(String owner, String repo, String ref, String token,
+                            Predicate<String> include, BiConsumer<String, String> consumer) {
+        String url = String.format("%s/repos/%s/%s/zipball/%s", GITHUB_API_BASE_URL, owner, repo, ref);
+        HttpHeaders headers = createAuthHeaders(token);
+        
+        try (RateLimitGovernor.Permit permit = rateLimitGovernor.acquire(token)) {
+            restTemplate.execute(url, HttpMethod.GET,
+                request -> request.getHeaders().putAll(headers),
+                response -> {
+                    rateLimitGovernor.record(token, response.getHeaders());
+                    try (ZipInputStream zip = new ZipInputStream(response.getBody(), StandardCharsets.UTF_8)) {
+                        ZipEntry entry;
+                        while ((entry = zip.getNextEntry()) != null) {
+                            String name = entry.getName();
+                            int rootEnd = name.indexOf('/');
+                            String path = rootEnd < 0 ? name : name.substring(rootEnd + 1);
+                            if (!entry.isDirectory() && include.test(path)) {
+                                consumer.accept(path, new String(zip.readAllBytes(), StandardCharsets.UTF_8));
+                            }
+                        }
+                    }
+                    return null;
+                });
+        } catch (RestClientException e) {
+            throw failure(url, token, e);
+        }
+    }
+    
+    private static String contentsUrl(String owner, String repo, String path, String ref) {
+        return String.format("%s/repos/%s/%s/contents/%s%s",
+            GITHUB_API_BASE_URL, owner, repo, path, ref == null ? "" : "?ref=" + ref);
     }
     
     /**
@@ -98,14 +207,93 @@ public class GitHubApiService {
         HttpHeaders headers = createAuthHeaders(token);
         HttpEntity<String> entity = new HttpEntity<>(headers);
         
-        try {
-            return restTemplate.exchange(url, HttpMethod.GET, entity, responseType);
+        try (RateLimitGovernor.Permit permit = rateLimitGovernor.acquire(token)) {
+            ResponseEntity<T> response = restTemplate.exchange(url, HttpMethod.GET, entity, responseType);
+            rateLimitGovernor.record(token, response.getHeaders());
+            return response;
+        } catch (RestClientException e) {
+            throw failure(url, token, e);
+        }
+    }
+    
+    /**
+     * 조건부 GET (ETag/Last-Modified 재검증)
+     * - 캐시된 응답이 있으면 If-None-Match/If-Modified-Since를 붙여 요청, 304면 캐시 본문 사용
+     *   (GitHub는 304 응답을 rate limit에 포함하지 않음)
+     * - 200이면 새 본문과 검증자를 캐시에 저장
+     */
+    private <T> T executeCachedGet(String url, String token, Class<T> responseType) {
+        String key = ConditionalResponseCache.key(url, token);
+        Optional<CachedResponse> cached = responseCache.get(key);
+
+        HttpHeaders headers = createAuthHeaders(token);
+        cached.ifPresent(response -> {
+            if (response.etag() != null) {
+                headers.setIfNoneMatch(response.etag());
+            }
+            if (response.lastModified() != null) {
+                headers.set(HttpHeaders.IF_MODIFIED_SINCE, response.lastModified());
+            }
+        });
+
+        try (RateLimitGovernor.Permit permit = rateLimitGovernor.acquire(token)) {
+            ResponseEntity<String> response = restTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(headers), String.class);
+            rateLimitGovernor.record(token, response.getHeaders());
+            String body;
+            if (response.getStatusCode() == HttpStatus.NOT_MODIFIED && cached.isPresent()) {
+                responseCache.recordRevalidated();
+                body = cached.get().body();
+            } else {
+                responseCache.recordFetched();
+                body = response.getBody();
+                responseCache.put(key, new CachedResponse(
+                    response.getHeaders().getETag(), response.getHeaders().getFirst(HttpHeaders.LAST_MODIFIED), body));
+            }
+            return body == null ? null : objectMapper.readValue(body, responseType);
         } catch (RestClientException e) {
+            throw failure(url, token, e);
+        } catch (JsonProcessingException e) {
             log.error("GitHub API call failed: {}", url, e);
             throw new GitHubApiException("Failed to call GitHub API: " + e.getMessage(), e);
         }
     }
     
+    /**
+     * 호출 실패를 예외로 변환
+     * - 오류 응답의 rate limit 헤더도 예산에 반영
+     * - 403/429이면서 남은 요청이 0이거나 Retry-After가 있으면 rate limit 초과 (GitHubRateLimitException)
+     */
+    private GitHubApiException failure(String url, String token, RestClientException e) {
+        if (e instanceof RestClientResponseException responseError) {
+            HttpHeaders headers = responseError.getResponseHeaders();
+            rateLimitGovernor.record(token, headers);
+            int status = responseError.getStatusCode().value();
+            if ((status == 403 || status == 429) && headers != null
+                    && ("0".equals(headers.getFirst("X-RateLimit-Remaining")) || headers.getFirst(HttpHeaders.RETRY_AFTER) != null)) {
+                log.warn("GitHub API rate limit exceeded: {}", url);
+                return new GitHubRateLimitException("GitHub API rate limit exceeded", retryAfterSeconds(headers), e);
+            }
+        }
+        log.error("GitHub API call failed: {}", url, e);
+        return new GitHubApiException("Failed to call GitHub API: " + e.getMessage(), e);
+    }
+    
+    private static long retryAfterSeconds(HttpHeaders headers) {
+        try {
+            String retryAfter = headers.getFirst(HttpHeaders.RETRY_AFTER);
+            if (retryAfter != null) {
+                return Math.max(1, Long.parseLong(retryAfter.trim()));
+            }
+            String reset = headers.getFirst("X-RateLimit-Reset");
+            if (reset != null) {
+                return Math.max(1, Long.parseLong(reset.trim()) - System.currentTimeMillis() / 1000);
+            }
+        } catch (NumberFormatException ignored) {
+            // 형식이 다르면 기본값 사용
+        }
+        return 60;
+    }
+    
     /**
      * 인증 헤더 생성
      */
@@ -124,4 +312,25 @@ public class GitHubApiService {
             super(message, cause);
         }
     }
+    
+    /**
+     * GitHub rate limit 초과 (또는 BULK 요청에 남겨둔 예산 부족)
+     * - retryAfterSeconds: 다시 시도해도 되는 시점까지의 초 (Retry-After 응답 헤더용)
+     */
+    public static class GitHubRateLimitException extends GitHubApiException {
+        private final long retryAfterSeconds;
+        
+        public GitHubRateLimitException(String message, long retryAfterSeconds) {
+            this(message, retryAfterSeconds, null);
+        }
+        
+        public GitHubRateLimitException(String message, long retryAfterSeconds, Throwable cause) {
+            super(message, cause);
+            this.retryAfterSeconds = retryAfterSeconds;
+        }
+        
+        public long getRetryAfterSeconds() {
+            return retryAfterSeconds;
+        }
+    }
 }
\ No newline at end of file
@@ -1,20 +1,42 @@
 package com.webapp.service;
 
+import com.webapp.service.HuggingFaceModelRegistry.ModelEndpoint;
+import com.webapp.service.analysis.ColumnSummary;
+import com.webapp.service.analysis.DataAnalysisEngine;
+import com.webapp.service.analysis.Distribution;
+import com.webapp.service.analysis.StreamAnalysis;
+import com.webapp.service.review.CodeReviewEngine;
+import com.webapp.service.review.ReviewIssue;
+import com.webapp.service.review.ReviewReport;
+import com.webapp.util.KeywordExtractor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
 
+import java.io.InputStream;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  * Hugging Face Inference API 서비스
  * - 엔드포인트 수정: router.huggingface.co
  * - 응답 파싱 개선
  * - 에러 처리 강화
+ * - 콜드 스타트(503 모델 로딩) 시 estimated_time 기반 대기 후 재시도
+ * - 작업별 모델/엔드포인트는 HuggingFaceModelRegistry에서 조회 (런타임 교체 가능)
+ * - 감정 분석은 로컬 ONNX 모델이 활성화되어 있으면 우선 사용 (실패 시 API로 대체)
  */
 @Slf4j
 @Service
@@ -22,18 +44,29 @@ import java.util.*;
 public class HuggingFaceApiService {
     
     private final RestTemplate restTemplate;
+    private final MeterRegistry meterRegistry;
+    private final HuggingFaceModelRegistry modelRegistry;
+    private final ObjectProvider<LocalSentimentClassifier> localSentimentClassifier;
+    private final KeywordCorpusIndex keywordCorpusIndex;
+    private final CodeReviewEngine codeReviewEngine;
+    private final DataAnalysisEngine dataAnalysisEngine;
     
     @Value("${huggingface.api.key:}")
     private String apiKey;
     
-    // ✅ 수정된 엔드포인트
-    private static final String HF_API_URL = "https://router.huggingface.co/hf-inference/models/";
+    @Value("${huggingface.cold-start.max-retries:3}")
+    private int coldStartMaxRetries;
     
-    // 모델 목록
-    private static final String MODEL_SUMMARIZATION = "facebook/bart-large-cnn";
-    private static final String MODEL_SENTIMENT = "distilbert-base-uncased-finetuned-sst-2-english";
-    private static final String MODEL_TRANSLATION_EN_KO = "Helsinki-NLP/opus-mt-en-ko";
-    private static final String MODEL_ZERO_SHOT = "facebook/bart-large-mnli";
+    @Value("${huggingface.cold-start.max-wait-ms:30000}")
+    private long coldStartMaxWaitMs;
+    
+    @Value("${huggingface.local.sentiment.timeout-ms:2000}")
+    private long localSentimentTimeoutMs;
+    
+    // 503 응답 본문의 {"error": "... is currently loading", "estimated_time": 20.0}
+    private static final Pattern ESTIMATED_TIME_PATTERN = Pattern.compile("\"estimated_time\"\\s*:\\s*([0-9.]+)");
+    private static final long MIN_COLD_START_WAIT_MS = 1000;
+    private static final long DEFAULT_COLD_START_WAIT_MS = 5000;
     
     /**
      * 텍스트 요약
@@ -52,7 +85,7 @@ public class HuggingFaceApiService {
                 "do_sample", false
             ));
             
-            Object response = callHuggingFaceApi(MODEL_SUMMARIZATION, requestBody);
+            Object response = callHuggingFaceApi(HuggingFaceModelRegistry.TASK_SUMMARIZATION, requestBody);
             
             log.info("요약 응답: {}", response);
             
@@ -74,6 +107,11 @@ public class HuggingFaceApiService {
      * 감정 분석
      */
     public Map<String, Object> analyzeSentiment(String text) {
+        Map<String, Object> localSentiment = classifySentimentLocally(text);
+        if (localSentiment != null) {
+            return createSuccessResponse(formatSentiment(localSentiment));
+        }
+        
         if (!isApiKeyConfigured()) {
             return createErrorResponse("Hugging Face API 키가 설정되지 않았습니다.");
         }
@@ -82,23 +120,14 @@ public class HuggingFaceApiService {
             Map<String, Object> requestBody = new HashMap<>();
             requestBody.put("inputs", text);
             
-            Object response = callHuggingFaceApi(MODEL_SENTIMENT, requestBody);
+            Object response = callHuggingFaceApi(HuggingFaceModelRegistry.TASK_SENTIMENT, requestBody);
             
             log.info("감정 분석 응답: {}", response);
             
             // 응답 파싱 개선
             Map<String, Object> sentiment = extractSentimentFromResponse(response);
             if (sentiment != null) {
-                String label = (String) sentiment.get("label");
-                Double score = (Double) sentiment.get("score");
-                
-                String labelKo = convertSentimentLabel(label);
-                double confidence = score * 100;
-                
-                String analysis = String.format("**감정**: %s (확신도: %.1f%%)\n\n", labelKo, confidence);
-                analysis += getSentimentDescription(label);
-                
-                return createSuccessResponse(analysis);
+                return createSuccessResponse(formatSentiment(sentiment));
             }
             
             return createErrorResponse("감정 분석 결과를 추출할 수 없습니다. 응답: " + response);
@@ -109,6 +138,55 @@ public class HuggingFaceApiService {
         }
     }
     
+    /**
+     * 로컬 ONNX 모델로 감정 분석 (비활성화 또는 실패 시 null)
+     */
+    private Map<String, Object> classifySentimentLocally(String text) {
+        LocalSentimentClassifier classifier = localSentimentClassifier.getIfAvailable();
+        if (classifier == null) {
+            return null;
+        }
+        
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        CompletableFuture<Map<String, Object>> pending = classifier.classify(text);
+        try {
+            Map<String, Object> sentiment = pending.get(localSentimentTimeoutMs, TimeUnit.MILLISECONDS);
+            outcome = "success";
+            return sentiment;
+        } catch (InterruptedException e) {
+            pending.cancel(false);
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (TimeoutException e) {
+            pending.cancel(false); // 아직 큐에 있으면 워커가 건너뜀
+            outcome = "timeout";
+            log.warn("로컬 감정 분석 시간 초과 ({}ms), API로 대체합니다.", localSentimentTimeoutMs);
+            return null;
+        } catch (Exception e) {
+            log.warn("로컬 감정 분석 실패, API로 대체합니다: {}", e.getMessage());
+            return null;
+        } finally {
+            sample.stop(meterRegistry.timer("huggingface.request", "task", HuggingFaceModelRegistry.TASK_SENTIMENT,
+                "model", "local-onnx", "outcome", outcome));
+        }
+    }
+    
+    /**
+     * 감정 분석 결과(label, score) 포맷팅
+     */
+    private String formatSentiment(Map<String, Object> sentiment) {
+        String label = (String) sentiment.get("label");
+        double score = ((Number) sentiment.get("score")).doubleValue();
+        
+        String labelKo = convertSentimentLabel(label);
+        double confidence = score * 100;
+        
+        String analysis = String.format("**감정**: %s (확신도: %.1f%%)\n\n", labelKo, confidence);
+        analysis += getSentimentDescription(label);
+        return analysis;
+    }
+    
     /**
      * 번역 (영어 → 한국어)
      */
@@ -121,7 +199,7 @@ public class HuggingFaceApiService {
             Map<String, Object> requestBody = new HashMap<>();
             requestBody.put("inputs", text);
             
-            Object response = callHuggingFaceApi(MODEL_TRANSLATION_EN_KO, requestBody);
+            Object response = callHuggingFaceApi(HuggingFaceModelRegistry.TASK_TRANSLATION, requestBody);
             
             log.info("번역 응답: {}", response);
             
@@ -141,43 +219,128 @@ public class HuggingFaceApiService {
     
     /**
      * Hugging Face API 호출 (공통)
+     * - 모델이 로딩 중(503)이면 estimated_time 만큼 대기 후 재시도 (횟수/총 대기시간 제한)
+     * - 모델별 지연시간/결과를 huggingface.request 타이머로 기록
      */
-    private Object callHuggingFaceApi(String modelName, Map<String, Object> requestBody) {
-        String url = HF_API_URL + modelName;
+    private Object callHuggingFaceApi(String task, Map<String, Object> requestBody) {
+        ModelEndpoint endpoint = modelRegistry.resolve(task);
+        String modelName = endpoint.model();
+        String url = endpoint.url();
+        HttpEntity<Map<String, Object>> request = new HttpEntity<>(requestBody, createHeaders());
         
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        headers.set("Authorization", "Bearer " + apiKey);
-        headers.set("X-Wait-For-Model", "true");
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        long waitedMs = 0;
+        try {
+            for (int attempt = 0; ; attempt++) {
+                try {
+                    log.info("API 호출: {} with body: {}", url, requestBody);
+                    
+                    ResponseEntity<Object> response = restTemplate.postForEntity(url, request, Object.class);
+                    
+                    log.info("API 응답 상태: {}", response.getStatusCode());
+                    log.info("API 응답 본문: {}", response.getBody());
+                    
+                    if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
+                        outcome = "success";
+                        return response.getBody();
+                    }
+                    
+                    return Map.of("error", "API 호출 실패: " + response.getStatusCode());
+                    
+                } catch (HttpServerErrorException.ServiceUnavailable e) {
+                    long estimatedMs = parseEstimatedTimeMs(e.getResponseBodyAsString());
+                    if (attempt == 0) {
+                        meterRegistry.counter("huggingface.cold_start", "model", modelName, "source", "request").increment();
+                    }
+                    
+                    long sleepMs = Math.min(Math.max(estimatedMs, MIN_COLD_START_WAIT_MS), coldStartMaxWaitMs - waitedMs);
+                    if (attempt >= coldStartMaxRetries || sleepMs <= 0) {
+                        log.warn("모델 로딩 대기 한도 초과: {} (재시도 {}회, 대기 {}ms)", modelName, attempt, waitedMs);
+                        outcome = "loading";
+                        return Map.of("error", String.format("모델이 로딩 중입니다. 약 %d초 후 다시 시도해주세요.",
+                            Math.max(1, estimatedMs / 1000)));
+                    }
+                    
+                    log.info("모델 로딩 중: {} - {}ms 대기 후 재시도 ({}/{})", modelName, sleepMs, attempt + 1, coldStartMaxRetries);
+                    try {
+                        Thread.sleep(sleepMs);
+                    } catch (InterruptedException ie) {
+                        Thread.currentThread().interrupt();
+                        return Map.of("error", "모델 로딩 대기 중 중단되었습니다.");
+                    }
+                    waitedMs += sleepMs;
+                    meterRegistry.timer("huggingface.cold_start.wait", "model", modelName).record(sleepMs, TimeUnit.MILLISECONDS);
+                    
+                } catch (HttpClientErrorException e) {
+                    log.error("HTTP 에러: {} - {}", e.getStatusCode(), e.getResponseBodyAsString());
+                    return Map.of("error", "API 호출 실패: " + e.getMessage());
+                } catch (Exception e) {
+                    log.error("Hugging Face API 호출 실패: {}", url, e);
+                    return Map.of("error", "API 호출 중 오류: " + e.getMessage());
+                }
+            }
+        } finally {
+            sample.stop(meterRegistry.timer("huggingface.request", "task", task, "model", modelName, "outcome", outcome));
+        }
+    }
+    
+    /**
+     * 웜업 프로브 (재시도 없이 1회 호출)
+     * - 503 응답도 모델 로딩을 유발하므로 다음 주기에는 로딩이 끝나 있음
+     *
+     * @return 모델이 이미 로딩되어 있으면 true
+     */
+    public boolean warmUp(String task) {
+        if (!isApiKeyConfigured()) {
+            return false;
+        }
         
-        HttpEntity<Map<String, Object>> request = new HttpEntity<>(requestBody, headers);
+        ModelEndpoint endpoint = modelRegistry.resolve(task);
+        Map<String, Object> requestBody = Map.of("inputs", "warmup");
+        HttpEntity<Map<String, Object>> request = new HttpEntity<>(requestBody, createHeaders());
         
         try {
-            log.info("API 호출: {} with body: {}", url, requestBody);
-            
-            ResponseEntity<Object> response = restTemplate.postForEntity(url, request, Object.class);
-            
-            log.info("API 응답 상태: {}", response.getStatusCode());
-            log.info("API 응답 본문: {}", response.getBody());
-            
-            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-                return response.getBody();
-            }
-            
-            return Map.of("error", "API 호출 실패: " + response.getStatusCode());
-            
-        } catch (HttpClientErrorException e) {
-            log.error("HTTP 에러: {} - {}", e.getStatusCode(), e.getResponseBodyAsString());
-            return Map.of("error", "API 호출 실패: " + e.getMessage());
+            restTemplate.postForEntity(endpoint.url(), request, Object.class);
+            return true;
+        } catch (HttpServerErrorException.ServiceUnavailable e) {
+            meterRegistry.counter("huggingface.cold_start", "model", endpoint.model(), "source", "warmup").increment();
+            log.info("웜업 중 모델 로딩 감지: {} (estimated {}ms)", endpoint.model(), parseEstimatedTimeMs(e.getResponseBodyAsString()));
+            return false;
         } catch (Exception e) {
-            log.error("Hugging Face API 호출 실패: {}", url, e);
-            
-            if (e.getMessage() != null && e.getMessage().contains("loading")) {
-                return Map.of("error", "모델이 로딩 중입니다. 약 20초 후 다시 시도해주세요.");
+            log.warn("웜업 호출 실패: {} - {}", endpoint.model(), e.getMessage());
+            return false;
+        }
+    }
+    
+    /**
+     * 공통 요청 헤더
+     * - X-Wait-For-Model을 보내지 않음: 로딩 중이면 HF가 요청을 붙잡아 두지 않고 바로 503을 반환하고,
+     *   callHuggingFaceApi가 estimated_time만큼 (횟수/총 대기시간 제한 안에서) 기다렸다가 재시도
+     */
+    private HttpHeaders createHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.set("Authorization", "Bearer " + apiKey);
+        return headers;
+    }
+    
+    /**
+     * 503 응답 본문에서 estimated_time(초)을 추출하여 ms로 변환
+     */
+    private long parseEstimatedTimeMs(String body) {
+        if (body == null) {
+            return DEFAULT_COLD_START_WAIT_MS;
+        }
+        Matcher matcher = ESTIMATED_TIME_PATTERN.matcher(body);
+        if (matcher.find()) {
+            try {
+                return (long) (Double.parseDouble(matcher.group(1)) * 1000);
+            } catch (NumberFormatException e) {
+                return DEFAULT_COLD_START_WAIT_MS;
             }
-            
-            return Map.of("error", "API 호출 중 오류: " + e.getMessage());
         }
+        return DEFAULT_COLD_START_WAIT_MS;
     }
     
     /**
@@ -322,41 +485,19 @@ public class HuggingFaceApiService {
 
     /**
      * 키워드 추출 (통계 기반)
+     * - 누적된 말뭉치 문서 빈도로 BM25 점수를 매겨 흔한 단어의 순위를 낮춤
      */
     public Map<String, Object> extractKeywords(String text) {
         try {
-            Set<String> stopwords = new HashSet<>(Arrays.asList(
-                "이", "그", "저", "것", "수", "등", "들", "및", "때", "등등",
-                "하다", "있다", "되다", "않다", "없다", "아니다",
-                "the", "a", "an", "and", "or", "but", "in", "on", "at", "to", "for",
-                "of", "is", "are", "was", "were", "be", "been", "being",
-                "have", "has", "had", "do", "does", "did", "will", "would",
-                "can", "could", "should", "may", "might", "must"
-            ));
-
-            String[] words = text.toLowerCase()
-                .replaceAll("[^\\w\\s가-힣]", " ")
-                .split("\\s+");
-            
-            List<String> filteredWords = Arrays.stream(words)
-                .filter(word -> word.length() > 2 && !stopwords.contains(word))
-                .toList();
-
-            Map<String, Integer> frequency = new HashMap<>();
-            for (String word : filteredWords) {
-                frequency.put(word, frequency.getOrDefault(word, 0) + 1);
-            }
-
-            List<Map.Entry<String, Integer>> topKeywords = frequency.entrySet().stream()
-                .sorted((a, b) -> b.getValue().compareTo(a.getValue()))
-                .limit(10)
-                .toList();
+            KeywordExtractor.TermCounts counts = KeywordExtractor.countTerms(text);
+            List<KeywordExtractor.Keyword> topKeywords = counts.top(10, keywordCorpusIndex.bm25(counts));
+            keywordCorpusIndex.addDocument(counts);
 
             StringBuilder result = new StringBuilder("**추출된 주요 키워드:**\n\n");
             int index = 1;
-            for (Map.Entry<String, Integer> entry : topKeywords) {
+            for (KeywordExtractor.Keyword keyword : topKeywords) {
                 result.append(String.format("%d. **%s** (%d회 등장)\n", 
-                    index++, entry.getKey(), entry.getValue()));
+                    index++, keyword.term(), keyword.count()));
             }
 
             return createSuccessResponse(result.toString());
@@ -369,85 +510,19 @@ public class HuggingFaceApiService {
 
     /**
      * 코드 리뷰 (정적 분석)
+     * - 언어별 토크나이저 + 규칙 엔진(CodeReviewEngine)으로 한 번에 분석
      */
     public Map<String, Object> reviewCode(String code, String language) {
         try {
+            ReviewReport report = codeReviewEngine.review(code, language);
             List<Map<String, String>> issues = new ArrayList<>();
-            int score = 100;
-
-            int lines = code.split("\n").length;
-            if (lines > 100) {
-                issues.add(Map.of(
-                    "severity", "medium",
-                    "message", String.format("코드가 %d줄로 너무 깁니다. 함수를 분리하는 것을 권장합니다.", lines)
-                ));
-                score -= 10;
-            }
-
-            long indentIssues = Arrays.stream(code.split("\n"))
-                .filter(line -> line.matches("^\\s{1,3}\\S.*") || line.matches("^\\t\\S.*"))
-                .count();
-            
-            if (indentIssues > lines * 0.3) {
-                issues.add(Map.of(
-                    "severity", "low",
-                    "message", "일관되지 않은 들여쓰기가 발견되었습니다."
-                ));
-                score -= 5;
-            }
-
-            long commentLines = Arrays.stream(code.split("\n"))
-                .filter(line -> {
-                    String trimmed = line.trim();
-                    return trimmed.startsWith("//") || trimmed.startsWith("/*") || trimmed.startsWith("#");
-                })
-                .count();
-            
-            if (commentLines < lines * 0.1) {
-                issues.add(Map.of(
-                    "severity", "low",
-                    "message", "주석이 부족합니다. 복잡한 로직에는 설명을 추가하세요."
-                ));
-                score -= 5;
-            }
-
-            long hardcodedStrings = code.split("\"[^\"]{20,}\"").length - 1;
-            if (hardcodedStrings > 3) {
-                issues.add(Map.of(
-                    "severity", "medium",
-                    "message", String.format("긴 문자열 %d개가 하드코딩되어 있습니다. 상수로 분리하세요.", hardcodedStrings)
-                ));
-                score -= 10;
-            }
-
-            boolean hasErrorHandling = code.contains("try") || code.contains("catch") || 
-                                    code.contains("except") || code.contains("error");
-            
-            if (!hasErrorHandling && lines > 20) {
+            for (ReviewIssue issue : report.issues()) {
                 issues.add(Map.of(
-                    "severity", "high",
-                    "message", "에러 처리가 없습니다. try-catch 또는 에러 검사를 추가하세요."
+                    "severity", issue.severity().getCode(),
+                    "message", issue.message()
                 ));
-                score -= 15;
-            }
-
-            long shortVarNames = code.split("\\b[a-z]\\b").length - 1;
-            if (shortVarNames > 5) {
-                issues.add(Map.of(
-                    "severity", "low",
-                    "message", "한 글자 변수명이 많습니다. 의미있는 이름을 사용하세요."
-                ));
-                score -= 5;
-            }
-
-            int maxNesting = calculateMaxNesting(code);
-            if (maxNesting > 4) {
-                issues.add(Map.of(
-                    "severity", "high",
-                    "message", String.format("중첩 깊이가 %d단계로 너무 깊습니다. 코드를 리팩토링하세요.", maxNesting)
-                ));
-                score -= 15;
             }
+            int score = report.score();
 
             StringBuilder result = new StringBuilder();
             result.append(String.format("**코드 품질 점수**: %d/100\n\n", Math.max(0, score)));
@@ -518,22 +593,6 @@ public class HuggingFaceApiService {
         }
     }
 
-    private int calculateMaxNesting(String code) {
-        int maxDepth = 0;
-        int currentDepth = 0;
-        
-        for (char c : code.toCharArray()) {
-            if (c == '{' || c == '(') {
-                currentDepth++;
-                maxDepth = Math.max(maxDepth, currentDepth);
-            } else if (c == '}' || c == ')') {
-                currentDepth--;
-            }
-        }
-        
-        return maxDepth;
-    }
-
     public Map<String, Object> analyzeData(List<Map<String, Object>> data) {
         try {
             if (data == null || data.isEmpty()) {
@@ -542,85 +601,108 @@ public class HuggingFaceApiService {
 
             Map<String, Object> sample = data.get(0);
             Set<String> columns = sample.keySet();
-            
-            StringBuilder result = new StringBuilder();
-            result.append("**기본 통계:**\n\n");
-            result.append(String.format("- 데이터 개수: %d개\n", data.size()));
-            result.append(String.format("- 컬럼 수: %d개\n", columns.size()));
-            result.append(String.format("- 주요 필드: %s\n\n", String.join(", ", columns)));
 
-            result.append("**주요 발견사항:**\n\n");
+            return createSuccessResponse(
+                formatDataAnalysis(data.size(), dataAnalysisEngine.analyze(data, columns)));
 
-            int index = 1;
-            for (String col : columns) {
-                List<Object> values = data.stream()
-                    .map(row -> row.get(col))
-                    .filter(v -> v != null)
-                    .toList();
-                
-                Set<Object> uniqueValues = new HashSet<>(values);
-                
-                result.append(String.format("%d. **%s**\n", index++, col));
-                result.append(String.format("   - 고유값: %d개\n", uniqueValues.size()));
-                
-                List<Double> numericValues = values.stream()
-                    .filter(v -> {
-                        try {
-                            Double.parseDouble(v.toString());
-                            return true;
-                        } catch (NumberFormatException e) {
-                            return false;
-                        }
-                    })
-                    .map(v -> Double.parseDouble(v.toString()))
-                    .toList();
-                
-                if (!numericValues.isEmpty()) {
-                    double sum = numericValues.stream().mapToDouble(Double::doubleValue).sum();
-                    double avg = sum / numericValues.size();
-                    double min = numericValues.stream().mapToDouble(Double::doubleValue).min().orElse(0);
-                    double max = numericValues.stream().mapToDouble(Double::doubleValue).max().orElse(0);
-                    
-                    result.append(String.format("   - 평균: %.2f\n", avg));
-                    result.append(String.format("   - 최소: %.2f, 최대: %.2f\n", min, max));
-                } else {
-                    Map<Object, Long> frequency = values.stream()
-                        .collect(java.util.stream.Collectors.groupingBy(
-                            v -> v, java.util.stream.Collectors.counting()
-                        ));
-                    
-                    Map.Entry<Object, Long> mostCommon = frequency.entrySet().stream()
-                        .max(Map.Entry.comparingByValue())
-                        .orElse(null);
-                    
-                    if (mostCommon != null) {
-                        result.append(String.format("   - 최빈값: \"%s\" (%d회)\n", 
-                            mostCommon.getKey(), mostCommon.getValue()));
-                    }
-                }
-                result.append("\n");
-            }
-
-            result.append("**추세 및 상관관계:**\n");
-            result.append(String.format("- 데이터 분포가 %s\n", 
-                data.size() > 100 ? "충분합니다" : "더 필요할 수 있습니다"));
-            result.append(String.format("- %d개 변수 간의 관계를 시각화하면 더 많은 인사이트를 얻을 수 있습니다\n\n", 
-                columns.size()));
-
-            result.append("**제안사항:**\n");
-            result.append("- 그래프를 그려 시각적으로 확인하세요\n");
-            result.append("- 이상치(outlier)가 있는지 확인하세요\n");
-            result.append("- 결측값(null)이 있다면 처리 방법을 결정하세요\n");
-            result.append("- 시계열 데이터라면 트렌드를 분석하세요\n");
+        } catch (Exception e) {
+            log.error("데이터 분석 오류", e);
+            return createErrorResponse("데이터 분석 중 오류가 발생했습니다: " + e.getMessage());
+        }
+    }
 
-            return createSuccessResponse(result.toString());
+    /**
+     * 데이터 분석 (CSV/NDJSON 스트림)
+     * - 행을 하나씩 읽어 누적하므로 데이터 크기와 무관하게 메모리 사용량이 일정
+     */
+    public Map<String, Object> analyzeDataStream(InputStream input, DataAnalysisEngine.DataFormat format) {
+        try {
+            StreamAnalysis analysis = dataAnalysisEngine.analyzeStream(input, format);
+            if (analysis.rowCount() == 0) {
+                return createErrorResponse("유효한 데이터가 없습니다.");
+            }
+            return createSuccessResponse(formatDataAnalysis(analysis.rowCount(), analysis.columns()));
 
         } catch (Exception e) {
-            log.error("데이터 분석 오류", e);
+            log.error("데이터 스트림 분석 오류", e);
             return createErrorResponse("데이터 분석 중 오류가 발생했습니다: " + e.getMessage());
         }
     }
+
+    private String formatDataAnalysis(long rowCount, List<ColumnSummary> summaries) {
+        List<String> columns = summaries.stream().map(ColumnSummary::name).toList();
+
+        StringBuilder result = new StringBuilder();
+        result.append("**기본 통계:**\n\n");
+        result.append(String.format("- 데이터 개수: %d개\n", rowCount));
+        result.append(String.format("- 컬럼 수: %d개\n", columns.size()));
+        result.append(String.format("- 주요 필드: %s\n\n", String.join(", ", columns)));
+
+        result.append("**주요 발견사항:**\n\n");
+
+        int index = 1;
+        for (ColumnSummary column : summaries) {
+            result.append(String.format("%d. **%s**\n", index++, column.name()));
+            result.append(String.format("   - 고유값: %s%d개\n", column.approximate() ? "약 " : "", column.distinct()));
+
+            if (column.isNumeric()) {
+                result.append(String.format("   - 평균: %.2f (표준편차: %.2f)\n", column.mean(), column.stddev()));
+                result.append(String.format("   - 최소: %.2f, 최대: %.2f\n", column.min(), column.max()));
+                appendDistribution(result, column.distribution());
+            } else if (!column.topValues().isEmpty()) {
+                ColumnSummary.ValueCount mostCommon = column.topValues().get(0);
+                result.append(String.format("   - 최빈값: \"%s\" (%d회)\n", 
+                    mostCommon.value(), mostCommon.count()));
+                if (column.topValues().size() > 1) {
+                    StringJoiner others = new StringJoiner(", ");
+                    for (ColumnSummary.ValueCount value : column.topValues().subList(1, column.topValues().size())) {
+                        others.add(String.format("\"%s\" (%d회)", value.value(), value.count()));
+                    }
+                    result.append("   - 그 다음: ").append(others).append("\n");
+                }
+            }
+            result.append("\n");
+        }
+
+        result.append("**추세 및 상관관계:**\n");
+        result.append(String.format("- 데이터 분포가 %s\n", 
+            rowCount > 100 ? "충분합니다" : "더 필요할 수 있습니다"));
+        result.append(String.format("- %d개 변수 간의 관계를 시각화하면 더 많은 인사이트를 얻을 수 있습니다\n\n", 
+            columns.size()));
+
+        result.append("**제안사항:**\n");
+        result.append("- 그래프를 그려 시각적으로 확인하세요\n");
+        result.append("- 이상치(outlier)가 있는지 확인하세요\n");
+        result.append("- 결측값(null)이 있다면 처리 방법을 결정하세요\n");
+        result.append("- 시계열 데이터라면 트렌드를 분석하세요\n");
+        return result.toString();
+    }
     
+    /**
+     * 분위수와 텍스트 히스토그램 (가장 많은 구간을 막대 20칸 기준으로 표시)
+     */
+    private void appendDistribution(StringBuilder result, Distribution distribution) {
+        if (distribution == null) {
+            return;
+        }
+        result.append(String.format("   - 분위수: p50 %.2f, p90 %.2f, p99 %.2f\n",
+            distribution.p50(), distribution.p90(), distribution.p99()));
+
+        long maxCount = 0;
+        for (Distribution.Bin bin : distribution.histogram()) {
+            maxCount = Math.max(maxCount, bin.count());
+        }
+        if (maxCount == 0 || distribution.histogram().size() < 2) {
+            return;
+        }
+        result.append("   - 분포:\n");
+        for (Distribution.Bin bin : distribution.histogram()) {
+            int bar = (int) Math.round(20.0 * bin.count() / maxCount);
+            result.append(String.format("     %10.2f ~ %10.2f | %s %d\n",
+                bin.lower(), bin.upper(), "█".repeat(bar), bin.count()));
+        }
+    }
+
     private Map<String, Object> createSuccessResponse(String result) {
         Map<String, Object> response = new HashMap<>();
         response.put("success", true);
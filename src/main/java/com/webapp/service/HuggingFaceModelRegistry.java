@@ -0,0 +1,145 @@
+package com.webapp.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Hugging Face 작업(task) → 모델/엔드포인트 레지스트리
+ * - huggingface.model.{task} 속성에서 초기값을 읽음
+ * - 런타임에 작업별 모델을 교체하거나 설정값으로 되돌릴 수 있음 (재시작 불필요)
+ * - 런타임 교체는 모델 ID만 받음: URL은 항상 설정된 추론 기본 URL + 모델 ID (API 키가 다른 호스트로 가지 않도록)
+ * - 설정값은 시작 시 한 번 읽음 (속성 변경은 재시작 후 반영, 운영 중 변경은 런타임 교체 사용)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HuggingFaceModelRegistry {
+
+    public static final String TASK_SUMMARIZATION = "summarization";
+    public static final String TASK_SENTIMENT = "sentiment";
+    public static final String TASK_TRANSLATION = "translation";
+    public static final String TASK_ZERO_SHOT = "zeroshot";
+
+    public static final List<String> TASKS = List.of(
+        TASK_SUMMARIZATION, TASK_SENTIMENT, TASK_TRANSLATION, TASK_ZERO_SHOT
+    );
+
+    // 속성이 없을 때 사용하는 기본 모델
+    private static final Map<String, String> DEFAULT_MODELS = Map.of(
+        TASK_SUMMARIZATION, "facebook/bart-large-cnn",
+        TASK_SENTIMENT, "distilbert-base-uncased-finetuned-sst-2-english",
+        TASK_TRANSLATION, "Helsinki-NLP/opus-mt-en-ko",
+        TASK_ZERO_SHOT, "facebook/bart-large-mnli"
+    );
+
+    private static final String DEFAULT_API_URL = "https://router.huggingface.co/";
+    private static final String DEFAULT_INFERENCE_PATH = "hf-inference/models/";
+
+    // Hugging Face 모델 ID 형식 ({조직}/{이름} 또는 {이름}), 경로 이동(..)은 별도로 거부
+    private static final Pattern MODEL_ID = Pattern.compile("[A-Za-z0-9][A-Za-z0-9._-]*(/[A-Za-z0-9][A-Za-z0-9._-]*)?");
+
+    private final Environment environment;
+
+    // 설정값 기반 엔드포인트 (시작 시 로드)
+    private Map<String, ModelEndpoint> configured = Map.of();
+
+    // 런타임 교체값 (설정값보다 우선)
+    private final Map<String, ModelEndpoint> overrides = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        String baseUrl = baseInferenceUrl();
+        Map<String, ModelEndpoint> loaded = new LinkedHashMap<>();
+        for (String task : TASKS) {
+            String model = environment.getProperty("huggingface.model." + task, DEFAULT_MODELS.get(task));
+            String url = environment.getProperty("huggingface.endpoint." + task, baseUrl + model);
+            loaded.put(task, new ModelEndpoint(task, model, url));
+        }
+        configured = Map.copyOf(loaded);
+        log.info("Hugging Face 모델 설정 로드: {}", loaded.values());
+    }
+
+    /**
+     * 작업에 해당하는 모델 엔드포인트 조회
+     */
+    public ModelEndpoint resolve(String task) {
+        ModelEndpoint override = overrides.get(task);
+        if (override != null) {
+            return override;
+        }
+        ModelEndpoint endpoint = configured.get(task);
+        if (endpoint == null) {
+            throw new IllegalArgumentException("알 수 없는 작업입니다: " + task);
+        }
+        return endpoint;
+    }
+
+    /**
+     * 전체 작업별 현재 엔드포인트
+     */
+    public Map<String, ModelEndpoint> snapshot() {
+        Map<String, ModelEndpoint> result = new LinkedHashMap<>();
+        for (String task : TASKS) {
+            result.put(task, resolve(task));
+        }
+        return result;
+    }
+
+    /**
+     * 작업의 모델 교체 (URL은 설정된 추론 기본 URL + 모델 ID)
+     */
+    public ModelEndpoint override(String task, String model) {
+        requireKnownTask(task);
+        if (model == null || model.isBlank()) {
+            throw new IllegalArgumentException("모델 ID는 필수 입력 항목입니다.");
+        }
+        String modelId = model.trim();
+        if (!MODEL_ID.matcher(modelId).matches() || modelId.contains("..")) {
+            throw new IllegalArgumentException("올바르지 않은 모델 ID입니다: " + modelId);
+        }
+        ModelEndpoint endpoint = new ModelEndpoint(task, modelId, baseInferenceUrl() + modelId);
+        overrides.put(task, endpoint);
+        log.info("Hugging Face 모델 교체: {} -> {} ({})", task, endpoint.model(), endpoint.url());
+        return endpoint;
+    }
+
+    /**
+     * 작업의 교체값 제거 (설정값으로 복귀)
+     */
+    public ModelEndpoint reset(String task) {
+        requireKnownTask(task);
+        overrides.remove(task);
+        log.info("Hugging Face 모델 설정값으로 복귀: {}", task);
+        return resolve(task);
+    }
+
+    private String baseInferenceUrl() {
+        String apiUrl = environment.getProperty("huggingface.api.url", DEFAULT_API_URL);
+        String path = environment.getProperty("huggingface.api.inference-path", DEFAULT_INFERENCE_PATH);
+        if (!apiUrl.endsWith("/")) {
+            apiUrl += "/";
+        }
+        return apiUrl + path;
+    }
+
+    private void requireKnownTask(String task) {
+        if (!TASKS.contains(task)) {
+            throw new IllegalArgumentException("알 수 없는 작업입니다: " + task);
+        }
+    }
+
+    /**
+     * 작업별 모델 엔드포인트
+     */
+    public record ModelEndpoint(String task, String model, String url) {
+    }
+}
@@ -0,0 +1,49 @@
+package com.webapp.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Hugging Face 모델 웜업 스케줄러
+ * - 설정된 작업의 현재 모델을 주기적으로 가볍게 호출하여 콜드 스타트를 방지
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HuggingFaceWarmupScheduler {
+
+    private final HuggingFaceApiService huggingFaceApiService;
+
+    @Value("${huggingface.warmup.enabled:true}")
+    private boolean enabled;
+
+    @Value("${huggingface.warmup.tasks:}")
+    private List<String> tasks;
+
+    @Scheduled(
+        fixedDelayString = "${huggingface.warmup.interval-ms:300000}",
+        initialDelayString = "${huggingface.warmup.initial-delay-ms:30000}"
+    )
+    public void warmUpModels() {
+        if (!enabled || tasks == null) {
+            return;
+        }
+
+        for (String task : tasks) {
+            if (task == null || task.isBlank()) {
+                continue;
+            }
+            try {
+                boolean warm = huggingFaceApiService.warmUp(task.trim());
+                log.debug("모델 웜업: {} -> {}", task, warm ? "ready" : "loading");
+            } catch (IllegalArgumentException e) {
+                log.warn("웜업 대상 작업이 올바르지 않습니다: {}", task);
+            }
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.webapp.service;
+
+import com.webapp.util.KeywordExtractor;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 키워드 추출용 말뭉치 통계 인덱스 (용어 → 문서 빈도)
+ * - 분석된 텍스트마다 문서 수/문서 길이/용어별 문서 빈도를 누적
+ * - BM25 점수 계산에 사용 (요청당 O(서로 다른 용어 수))
+ * - 주기적으로 바이너리 파일에 저장하고 시작 시 다시 로딩
+ * - 저장 실패는 연속 실패 구간마다 한 번만 WARN으로 남기고, 스택 트레이스는 DEBUG로만 기록
+ */
+@Slf4j
+@Component
+public class KeywordCorpusIndex {
+
+    private static final int FILE_MAGIC = 0x4B574446; // "KWDF"
+    private static final int FILE_VERSION = 1;
+
+    // BM25 파라미터
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    @Value("${keyword.index.path:}")
+    private String indexPath;
+
+    @Value("${keyword.index.max-terms:200000}")
+    private int maxTerms;
+
+    private final Map<String, Integer> documentFrequency = new ConcurrentHashMap<>();
+    private final AtomicLong documentCount = new AtomicLong();
+    private final AtomicLong totalDocumentLength = new AtomicLong();
+    private final AtomicBoolean dirty = new AtomicBoolean();
+    private final AtomicBoolean writeFailing = new AtomicBoolean();
+
+    @PostConstruct
+    public void load() {
+        Path path = resolvePath();
+        if (path == null || !Files.exists(path)) {
+            return;
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            if (in.readInt() != FILE_MAGIC || in.readInt() != FILE_VERSION) {
+                log.warn("키워드 인덱스 파일 형식이 올바르지 않습니다: {}", path);
+                return;
+            }
+            documentCount.set(in.readLong());
+            totalDocumentLength.set(in.readLong());
+            int terms = in.readInt();
+            for (int i = 0; i < terms; i++) {
+                documentFrequency.put(in.readUTF(), in.readInt());
+            }
+            log.info("키워드 인덱스 로딩: 문서 {}개, 용어 {}개", documentCount.get(), terms);
+        } catch (IOException e) {
+            log.warn("키워드 인덱스 로딩 실패: {}", path, e);
+        }
+    }
+
+    /**
+     * 분석된 문서의 용어 통계를 인덱스에 반영
+     */
+    public void addDocument(KeywordExtractor.TermCounts counts) {
+        if (counts.totalTerms() == 0) {
+            return;
+        }
+
+        documentCount.incrementAndGet();
+        totalDocumentLength.addAndGet(counts.totalTerms());
+        counts.forEachTerm(term -> {
+            if (documentFrequency.size() < maxTerms || documentFrequency.containsKey(term)) {
+                documentFrequency.merge(term, 1, Integer::sum);
+            }
+        });
+        dirty.set(true);
+    }
+
+    /**
+     * 현재 통계 기준 BM25 점수 계산기 (문서 길이 = counts.totalTerms())
+     * - 인덱스가 비어 있으면 idf가 모든 용어에 동일하므로 빈도 순위와 같아짐
+     */
+    public KeywordExtractor.TermScorer bm25(KeywordExtractor.TermCounts counts) {
+        long n = documentCount.get();
+        double avgLength = n == 0 ? counts.totalTerms() : (double) totalDocumentLength.get() / n;
+        double lengthNorm = K1 * (1 - B + B * counts.totalTerms() / Math.max(1.0, avgLength));
+
+        return (term, tf) -> {
+            int df = documentFrequency.getOrDefault(term, 0);
+            double idf = Math.log(1 + (n - df + 0.5) / (df + 0.5));
+            return idf * tf * (K1 + 1) / (tf + lengthNorm);
+        };
+    }
+
+    @Scheduled(fixedDelayString = "${keyword.index.flush-interval-ms:60000}")
+    public void flush() {
+        Path path = resolvePath();
+        if (path == null || !dirty.compareAndSet(true, false)) {
+            return;
+        }
+
+        try {
+            Files.createDirectories(path.toAbsolutePath().getParent());
+            Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                Map<String, Integer> snapshot = Map.copyOf(documentFrequency);
+                out.writeInt(FILE_MAGIC);
+                out.writeInt(FILE_VERSION);
+                out.writeLong(documentCount.get());
+                out.writeLong(totalDocumentLength.get());
+                out.writeInt(snapshot.size());
+                for (Map.Entry<String, Integer> entry : snapshot.entrySet()) {
+                    out.writeUTF(entry.getKey());
+                    out.writeInt(entry.getValue());
+                }
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            if (writeFailing.compareAndSet(true, false)) {
+                log.info("키워드 인덱스 저장 재개: {}", path);
+            }
+        } catch (IOException e) {
+            dirty.set(true);
+            if (writeFailing.compareAndSet(false, true)) {
+                log.warn("키워드 인덱스 저장 실패 (복구될 때까지 재시도하며 추가 경고는 생략): {} - {}", path, e.toString());
+            }
+            log.debug("키워드 인덱스 저장 실패: {}", path, e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private Path resolvePath() {
+        return indexPath == null || indexPath.isBlank() ? null : Path.of(indexPath);
+    }
+}
@@ -0,0 +1,215 @@
+package com.webapp.service;
+
+import ai.onnxruntime.OnnxTensor;
+import ai.onnxruntime.OrtEnvironment;
+import ai.onnxruntime.OrtException;
+import ai.onnxruntime.OrtSession;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.nio.LongBuffer;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 로컬 CPU 감정 분석 (ONNX Runtime)
+ * - 시작 시 모델을 한 번 로딩하고, 고정 크기 워커 풀에서 요청을 모아 배치 추론
+ * - huggingface.local.sentiment.enabled=true 이고 onnxruntime이 클래스패스에 있을 때만 등록됨 (-Plocal-inference 빌드)
+ * - 모델은 distilbert-base-uncased-finetuned-sst-2-english 등을 ONNX로 내보낸 파일 사용
+ *   (출력 logits [batch, 2], 0 = NEGATIVE, 1 = POSITIVE)
+ */
+@Slf4j
+@Component
+@ConditionalOnClass(name = "ai.onnxruntime.OrtEnvironment")
+@ConditionalOnProperty(name = "huggingface.local.sentiment.enabled", havingValue = "true")
+public class LocalSentimentClassifier {
+
+    private static final String[] LABELS = {"NEGATIVE", "POSITIVE"};
+
+    // 종료 시 실행 중인 배치(네이티브 session.run)가 끝나기를 기다리는 최대 시간
+    private static final long SHUTDOWN_TIMEOUT_MS = 10_000;
+
+    @Value("${huggingface.local.sentiment.model-path}")
+    private String modelPath;
+
+    @Value("${huggingface.local.sentiment.vocab-path}")
+    private String vocabPath;
+
+    @Value("${huggingface.local.sentiment.max-length:256}")
+    private int maxLength;
+
+    @Value("${huggingface.local.sentiment.batch-size:16}")
+    private int batchSize;
+
+    @Value("${huggingface.local.sentiment.threads:2}")
+    private int threads;
+
+    @Value("${huggingface.local.sentiment.queue-capacity:256}")
+    private int queueCapacity;
+
+    private OrtEnvironment environment;
+    private OrtSession session;
+    private WordPieceTokenizer tokenizer;
+    private BlockingQueue<PendingRequest> queue;
+    private ExecutorService workers;
+
+    @PostConstruct
+    public void init() throws Exception {
+        tokenizer = WordPieceTokenizer.fromVocabFile(Path.of(vocabPath));
+
+        environment = OrtEnvironment.getEnvironment();
+        OrtSession.SessionOptions options = new OrtSession.SessionOptions();
+        options.setIntraOpNumThreads(Math.max(1, Runtime.getRuntime().availableProcessors() / threads));
+        options.setOptimizationLevel(OrtSession.SessionOptions.OptLevel.ALL_OPT);
+        session = environment.createSession(modelPath, options);
+
+        queue = new LinkedBlockingQueue<>(queueCapacity);
+        AtomicInteger threadIndex = new AtomicInteger();
+        workers = Executors.newFixedThreadPool(threads, r -> {
+            Thread thread = new Thread(r, "local-sentiment-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < threads; i++) {
+            workers.submit(this::workerLoop);
+        }
+
+        log.info("로컬 감정 분석 모델 로딩 완료: {} (inputs={}, threads={}, batch={})",
+            modelPath, session.getInputNames(), threads, batchSize);
+    }
+
+    /**
+     * 워커가 모두 끝난 뒤에만 네이티브 세션 해제 (session.run 중 해제하면 JVM이 비정상 종료될 수 있음)
+     */
+    @PreDestroy
+    public void shutdown() throws OrtException, InterruptedException {
+        boolean terminated = true;
+        if (workers != null) {
+            workers.shutdownNow(); // 대기 중인 워커는 take()에서 깨어나 종료, 실행 중인 배치는 끝까지 실행
+            terminated = workers.awaitTermination(SHUTDOWN_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        }
+        if (queue != null) {
+            PendingRequest pending;
+            while ((pending = queue.poll()) != null) {
+                pending.future().completeExceptionally(new RejectedExecutionException("로컬 감정 분석 종료"));
+            }
+        }
+        if (session != null) {
+            if (!terminated) {
+                log.warn("로컬 감정 분석 워커가 {}ms 안에 끝나지 않아 모델 세션을 해제하지 않습니다.", SHUTDOWN_TIMEOUT_MS);
+                return;
+            }
+            session.close();
+        }
+    }
+
+    /**
+     * 감정 분류 (label: POSITIVE/NEGATIVE, score: 0~1)
+     * - 큐가 가득 차면 즉시 실패한 future를 반환하여 호출 측이 원격 API로 대체할 수 있게 함
+     */
+    public CompletableFuture<Map<String, Object>> classify(String text) {
+        PendingRequest request = new PendingRequest(text, new CompletableFuture<>());
+        if (!queue.offer(request)) {
+            request.future().completeExceptionally(new RejectedExecutionException("로컬 감정 분석 큐가 가득 찼습니다."));
+        }
+        return request.future();
+    }
+
+    /**
+     * 큐에서 요청을 꺼내 가능한 만큼 묶어서 추론
+     */
+    private void workerLoop() {
+        List<PendingRequest> batch = new ArrayList<>(batchSize);
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                batch.add(queue.take());
+                queue.drainTo(batch, batchSize - 1);
+                // 호출 측에서 이미 시간 초과로 취소한 요청은 추론하지 않음
+                batch.removeIf(pending -> pending.future().isDone());
+                if (!batch.isEmpty()) {
+                    runBatch(batch);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                log.error("로컬 감정 분석 배치 실패", e);
+                batch.forEach(pending -> pending.future().completeExceptionally(e));
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void runBatch(List<PendingRequest> batch) throws OrtException {
+        int size = batch.size();
+        long[][] encoded = new long[size][];
+        int seqLength = 0;
+        for (int i = 0; i < size; i++) {
+            encoded[i] = tokenizer.encode(batch.get(i).text(), maxLength);
+            seqLength = Math.max(seqLength, encoded[i].length);
+        }
+
+        // 배치 내 최장 길이에 맞춰 0(PAD)으로 채움
+        long[] inputIds = new long[size * seqLength];
+        long[] attentionMask = new long[size * seqLength];
+        for (int i = 0; i < size; i++) {
+            int offset = i * seqLength;
+            System.arraycopy(encoded[i], 0, inputIds, offset, encoded[i].length);
+            for (int j = 0; j < encoded[i].length; j++) {
+                attentionMask[offset + j] = 1;
+            }
+        }
+
+        long[] shape = {size, seqLength};
+        Map<String, OnnxTensor> inputs = new HashMap<>();
+        try {
+            inputs.put("input_ids", OnnxTensor.createTensor(environment, LongBuffer.wrap(inputIds), shape));
+            inputs.put("attention_mask", OnnxTensor.createTensor(environment, LongBuffer.wrap(attentionMask), shape));
+            if (session.getInputNames().contains("token_type_ids")) {
+                inputs.put("token_type_ids", OnnxTensor.createTensor(environment, LongBuffer.wrap(new long[size * seqLength]), shape));
+            }
+
+            try (OrtSession.Result result = session.run(inputs)) {
+                float[][] logits = (float[][]) result.get(0).getValue();
+                for (int i = 0; i < size; i++) {
+                    batch.get(i).future().complete(toSentiment(logits[i]));
+                }
+            }
+        } finally {
+            inputs.values().forEach(OnnxTensor::close);
+        }
+    }
+
+    /**
+     * logits → softmax 후 최대 확률 라벨
+     */
+    private Map<String, Object> toSentiment(float[] logits) {
+        double max = Math.max(logits[0], logits[1]);
+        double negative = Math.exp(logits[0] - max);
+        double positive = Math.exp(logits[1] - max);
+        double sum = negative + positive;
+
+        int best = positive >= negative ? 1 : 0;
+        double score = (best == 1 ? positive : negative) / sum;
+        return Map.of("label", LABELS[best], "score", score);
+    }
+
+    private record PendingRequest(String text, CompletableFuture<Map<String, Object>> future) {
+    }
+}
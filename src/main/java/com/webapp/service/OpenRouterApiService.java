@@ -1,5 +1,7 @@
 package com.webapp.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -8,7 +10,16 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.function.Consumer;
 
 /**
  * OpenRouter API 서비스
@@ -21,10 +32,15 @@ import java.util.*;
 public class OpenRouterApiService {
     
     private final RestTemplate restTemplate;
+    private final HttpClient asyncHttpClient;
+    private final ObjectMapper objectMapper;
     
     @Value("${openrouter.api.key:}")
     private String apiKey;
     
+    @Value("${openrouter.api.timeout-ms:60000}")
+    private long requestTimeoutMs;
+    
     private static final String OPENROUTER_API_URL = "https://openrouter.ai/api/v1/chat/completions";
     
     // 모델 목록
@@ -242,23 +258,8 @@ public class OpenRouterApiService {
      */
     public Map<String, Object> callOpenRouterModel(String model, String prompt, int maxTokens, double temperature, String responseFormat) {
         try {
-            Map<String, Object> requestBody = new HashMap<>();
-            requestBody.put("model", model);
-            requestBody.put("messages", List.of(Map.of("role", "user", "content", prompt)));
-            requestBody.put("max_tokens", maxTokens);
-            requestBody.put("temperature", temperature);
-            
-            if (responseFormat != null) {
-                requestBody.put("response_format", Map.of("type", responseFormat));
-            }
-            
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            headers.set("Authorization", "Bearer " + apiKey);
-            headers.set("HTTP-Referer", "https://toy.playcloud8.com");
-            headers.set("X-Title", "Playground AI Tools");
-            
-            HttpEntity<Map<String, Object>> request = new HttpEntity<>(requestBody, headers);
+            HttpEntity<Map<String, Object>> request = new HttpEntity<>(
+                createRequestBody(model, prompt, maxTokens, temperature, responseFormat), createHeaders());
             
             log.info("OpenRouter API 호출: model={}", model);
             
@@ -277,14 +278,7 @@ public class OpenRouterApiService {
             
         } catch (HttpClientErrorException e) {
             log.error("HTTP 에러: {} - {}", e.getStatusCode(), e.getResponseBodyAsString());
-            
-            if (e.getStatusCode() == HttpStatus.UNAUTHORIZED) {
-                return createErrorResponse("API 키가 유효하지 않습니다.");
-            } else if (e.getStatusCode() == HttpStatus.TOO_MANY_REQUESTS) {
-                return createErrorResponse("API 호출 한도 초과. 잠시 후 다시 시도하세요.");
-            }
-            
-            return createErrorResponse("API 호출 실패: " + e.getMessage());
+            return createErrorResponse(describeHttpError(e.getStatusCode().value(), e.getMessage()));
             
         } catch (Exception e) {
             log.error("OpenRouter API 호출 오류", e);
@@ -292,6 +286,128 @@ public class OpenRouterApiService {
         }
     }
     
+    /**
+     * OpenRouter API 비동기 호출
+     * - 응답 대기 중 스레드를 점유하지 않음, 결과 형식은 callOpenRouterModel과 동일 (실패도 정상 완료)
+     */
+    public CompletableFuture<Map<String, Object>> callOpenRouterModelAsync(String model, String prompt, int maxTokens, double temperature) {
+        HttpRequest request;
+        try {
+            request = createHttpRequest(createRequestBody(model, prompt, maxTokens, temperature, null));
+        } catch (Exception e) {
+            log.error("OpenRouter 요청 생성 오류", e);
+            return CompletableFuture.completedFuture(createErrorResponse("오류가 발생했습니다: " + e.getMessage()));
+        }
+        
+        log.info("OpenRouter API 비동기 호출: model={}", model);
+        
+        return asyncHttpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+            .thenApply(response -> {
+                if (response.statusCode() / 100 != 2) {
+                    log.error("HTTP 에러: {} - {}", response.statusCode(), response.body());
+                    return createErrorResponse(describeHttpError(response.statusCode(), "HTTP " + response.statusCode()));
+                }
+                try {
+                    @SuppressWarnings("unchecked")
+                    Map<String, Object> body = objectMapper.readValue(response.body(), Map.class);
+                    String result = extractResultFromResponse(body);
+                    if (result != null) {
+                        return createSuccessResponse(result.trim());
+                    }
+                } catch (Exception e) {
+                    log.error("응답 파싱 실패", e);
+                }
+                return createErrorResponse("AI 응답을 받을 수 없습니다.");
+            })
+            .exceptionally(e -> {
+                log.error("OpenRouter API 비동기 호출 오류", e);
+                return createErrorResponse("오류가 발생했습니다: " + e.getMessage());
+            });
+    }
+    
+    /**
+     * OpenRouter API 스트리밍 호출 (SSE)
+     * - 생성되는 텍스트 조각을 onDelta로 즉시 전달, 완료 시 전체 텍스트를 callOpenRouterModel과 같은 형식으로 반환
+     * - 응답은 줄 단위 구독으로 처리하여 스트림을 읽는 동안에도 스레드를 점유하지 않음
+     * - 반환된 future를 취소하면 HTTP 교환도 중단 (추측 실행 발언 폐기 등)
+     */
+    public CompletableFuture<Map<String, Object>> streamOpenRouterModel(String model, String prompt, int maxTokens, double temperature,
+                                                                     Consumer<String> onDelta) {
+        HttpRequest request;
+        try {
+            Map<String, Object> requestBody = createRequestBody(model, prompt, maxTokens, temperature, null);
+            requestBody.put("stream", true);
+            request = createHttpRequest(requestBody);
+        } catch (Exception e) {
+            log.error("OpenRouter 요청 생성 오류", e);
+            return CompletableFuture.completedFuture(createErrorResponse("오류가 발생했습니다: " + e.getMessage()));
+        }
+        
+        log.info("OpenRouter API 스트리밍 호출: model={}", model);
+        
+        CompletableFuture<HttpResponse<CompletionStreamSubscriber>> exchange = asyncHttpClient.sendAsync(request,
+                HttpResponse.BodyHandlers.fromLineSubscriber(new CompletionStreamSubscriber(onDelta), s -> s, "\n"));
+        CompletableFuture<Map<String, Object>> completion = exchange
+            .thenApply(response -> {
+                CompletionStreamSubscriber stream = response.body();
+                if (response.statusCode() / 100 != 2) {
+                    log.error("HTTP 에러: {} - {}", response.statusCode(), stream.getOtherLines());
+                    return createErrorResponse(describeHttpError(response.statusCode(), "HTTP " + response.statusCode()));
+                }
+                String result = stream.getText().trim();
+                return result.isEmpty() ? createErrorResponse("AI 응답을 받을 수 없습니다.") : createSuccessResponse(result);
+            })
+            .exceptionally(e -> {
+                log.error("OpenRouter API 스트리밍 호출 오류", e);
+                return createErrorResponse("오류가 발생했습니다: " + e.getMessage());
+            });
+        completion.whenComplete((response, e) -> {
+            if (completion.isCancelled()) {
+                exchange.cancel(true);
+            }
+        });
+        return completion;
+    }
+    
+    private Map<String, Object> createRequestBody(String model, String prompt, int maxTokens, double temperature, String responseFormat) {
+        Map<String, Object> requestBody = new HashMap<>();
+        requestBody.put("model", model);
+        requestBody.put("messages", List.of(Map.of("role", "user", "content", prompt)));
+        requestBody.put("max_tokens", maxTokens);
+        requestBody.put("temperature", temperature);
+        
+        if (responseFormat != null) {
+            requestBody.put("response_format", Map.of("type", responseFormat));
+        }
+        return requestBody;
+    }
+    
+    private HttpHeaders createHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.set("Authorization", "Bearer " + apiKey);
+        headers.set("HTTP-Referer", "https://toy.playcloud8.com");
+        headers.set("X-Title", "Playground AI Tools");
+        return headers;
+    }
+    
+    private HttpRequest createHttpRequest(Map<String, Object> requestBody) throws IOException {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(OPENROUTER_API_URL))
+            .timeout(Duration.ofMillis(requestTimeoutMs))
+            .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(requestBody)));
+        createHeaders().forEach((name, values) -> values.forEach(value -> builder.header(name, value)));
+        return builder.build();
+    }
+    
+    private String describeHttpError(int status, String message) {
+        if (status == HttpStatus.UNAUTHORIZED.value()) {
+            return "API 키가 유효하지 않습니다.";
+        } else if (status == HttpStatus.TOO_MANY_REQUESTS.value()) {
+            return "API 호출 한도 초과. 잠시 후 다시 시도하세요.";
+        }
+        return "API 호출 실패: " + message;
+    }
+    
     // ========== Helper Methods ========== 
     
     private String getWritingTypePrompt(String type) {
@@ -416,5 +532,67 @@ public class OpenRouterApiService {
         return Map.of("success", false, "message", message);
     }
 
+    /**
+     * SSE 줄 구독자: "data: {...}" 청크의 choices[0].delta.content를 전달하고 누적
+     * - data가 아닌 줄은 오류 응답 로그용으로 일부만 보관
+     */
+    private final class CompletionStreamSubscriber implements Flow.Subscriber<String> {
+        
+        private static final int MAX_OTHER_CHARS = 2000;
+        
+        private final Consumer<String> onDelta;
+        private final StringBuilder text = new StringBuilder();
+        private final StringBuilder otherLines = new StringBuilder();
+        
+        private CompletionStreamSubscriber(Consumer<String> onDelta) {
+            this.onDelta = onDelta;
+        }
+        
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            subscription.request(Long.MAX_VALUE);
+        }
+        
+        @Override
+        public void onNext(String line) {
+            if (!line.startsWith("data:")) {
+                if (otherLines.length() < MAX_OTHER_CHARS) {
+                    otherLines.append(line);
+                }
+                return;
+            }
+            String data = line.substring(5).trim();
+            if (data.isEmpty() || "[DONE]".equals(data)) {
+                return;
+            }
+            try {
+                JsonNode content = objectMapper.readTree(data).path("choices").path(0).path("delta").path("content");
+                if (content.isTextual() && !content.asText().isEmpty()) {
+                    text.append(content.asText());
+                    onDelta.accept(content.asText());
+                }
+            } catch (Exception e) {
+                log.debug("스트리밍 청크 처리 실패: {}", data, e);
+            }
+        }
+        
+        @Override
+        public void onError(Throwable throwable) {
+            // sendAsync future가 예외로 완료되어 exceptionally에서 처리
+        }
+        
+        @Override
+        public void onComplete() {
+        }
+        
+        private String getText() {
+            return text.toString();
+        }
+        
+        private String getOtherLines() {
+            return otherLines.toString();
+        }
+    }
+
     // This comment is added to force recompilation.
 }
@@ -0,0 +1,170 @@
+package com.webapp.service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * BERT 계열(uncased) WordPiece 토크나이저
+ * - vocab.txt 한 줄 = 토큰 하나 (줄 번호가 토큰 ID)
+ * - 소문자화, 악센트 제거, 구두점/CJK 문자 분리 후 최장 일치 WordPiece 분할
+ */
+public class WordPieceTokenizer {
+
+    private static final String CLS = "[CLS]";
+    private static final String SEP = "[SEP]";
+    private static final String UNK = "[UNK]";
+    private static final String CONTINUATION_PREFIX = "##";
+    private static final int MAX_CHARS_PER_WORD = 100;
+
+    private final Map<String, Integer> vocab;
+    private final int clsId;
+    private final int sepId;
+    private final int unkId;
+
+    public WordPieceTokenizer(Map<String, Integer> vocab) {
+        this.vocab = vocab;
+        this.clsId = requireToken(CLS);
+        this.sepId = requireToken(SEP);
+        this.unkId = requireToken(UNK);
+    }
+
+    /**
+     * vocab.txt 파일에서 토크나이저 생성
+     */
+    public static WordPieceTokenizer fromVocabFile(Path vocabPath) throws IOException {
+        List<String> lines = Files.readAllLines(vocabPath, StandardCharsets.UTF_8);
+        Map<String, Integer> vocab = new HashMap<>(lines.size() * 2);
+        for (int i = 0; i < lines.size(); i++) {
+            vocab.putIfAbsent(lines.get(i).strip(), i);
+        }
+        return new WordPieceTokenizer(vocab);
+    }
+
+    /**
+     * [CLS] tokens [SEP] 형태의 토큰 ID 배열 (maxLength 초과 시 잘라냄)
+     */
+    public long[] encode(String text, int maxLength) {
+        List<Integer> ids = new ArrayList<>();
+        ids.add(clsId);
+
+        int budget = maxLength - 2;
+        for (String word : basicTokenize(text)) {
+            for (int id : wordPiece(word)) {
+                if (ids.size() > budget) {
+                    break;
+                }
+                ids.add(id);
+            }
+            if (ids.size() > budget) {
+                break;
+            }
+        }
+        ids.add(sepId);
+
+        long[] result = new long[ids.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = ids.get(i);
+        }
+        return result;
+    }
+
+    /**
+     * 소문자화/악센트 제거 후 공백, 구두점, CJK 문자 기준으로 분리
+     */
+    private List<String> basicTokenize(String text) {
+        String normalized = Normalizer.normalize(text.toLowerCase(), Normalizer.Form.NFD);
+        List<String> words = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+
+        for (int i = 0; i < normalized.length(); ) {
+            int cp = normalized.codePointAt(i);
+            i += Character.charCount(cp);
+
+            if (Character.getType(cp) == Character.NON_SPACING_MARK || cp == 0 || cp == 0xFFFD
+                || Character.isISOControl(cp) && !Character.isWhitespace(cp)) {
+                continue;
+            }
+            if (Character.isWhitespace(cp)) {
+                flush(current, words);
+            } else if (isPunctuation(cp) || isCjk(cp)) {
+                flush(current, words);
+                words.add(new String(Character.toChars(cp)));
+            } else {
+                current.appendCodePoint(cp);
+            }
+        }
+        flush(current, words);
+        return words;
+    }
+
+    /**
+     * 최장 일치(greedy longest-match-first) WordPiece 분할
+     */
+    private List<Integer> wordPiece(String word) {
+        if (word.length() > MAX_CHARS_PER_WORD) {
+            return List.of(unkId);
+        }
+
+        List<Integer> pieces = new ArrayList<>();
+        int start = 0;
+        while (start < word.length()) {
+            int end = word.length();
+            Integer found = null;
+            while (start < end) {
+                String sub = word.substring(start, end);
+                if (start > 0) {
+                    sub = CONTINUATION_PREFIX + sub;
+                }
+                found = vocab.get(sub);
+                if (found != null) {
+                    break;
+                }
+                end--;
+            }
+            if (found == null) {
+                return List.of(unkId);
+            }
+            pieces.add(found);
+            start = end;
+        }
+        return pieces;
+    }
+
+    private static void flush(StringBuilder current, List<String> words) {
+        if (current.length() > 0) {
+            words.add(current.toString());
+            current.setLength(0);
+        }
+    }
+
+    private static boolean isPunctuation(int cp) {
+        if ((cp >= 33 && cp <= 47) || (cp >= 58 && cp <= 64) || (cp >= 91 && cp <= 96) || (cp >= 123 && cp <= 126)) {
+            return true;
+        }
+        int type = Character.getType(cp);
+        return type == Character.CONNECTOR_PUNCTUATION || type == Character.DASH_PUNCTUATION
+            || type == Character.START_PUNCTUATION || type == Character.END_PUNCTUATION
+            || type == Character.INITIAL_QUOTE_PUNCTUATION || type == Character.FINAL_QUOTE_PUNCTUATION
+            || type == Character.OTHER_PUNCTUATION;
+    }
+
+    private static boolean isCjk(int cp) {
+        return (cp >= 0x4E00 && cp <= 0x9FFF) || (cp >= 0x3400 && cp <= 0x4DBF)
+            || (cp >= 0x20000 && cp <= 0x2A6DF) || (cp >= 0xF900 && cp <= 0xFAFF);
+    }
+
+    private int requireToken(String token) {
+        Integer id = vocab.get(token);
+        if (id == null) {
+            throw new IllegalArgumentException("vocab에 필수 토큰이 없습니다: " + token);
+        }
+        return id;
+    }
+}
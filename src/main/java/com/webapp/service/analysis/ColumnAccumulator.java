@@ -0,0 +1,110 @@
+package com.webapp.service.analysis;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 컬럼 단위 단일 패스 통계 누적기
+ * - 숫자: NumericStats로 누적 (박싱 없음), 분위수/히스토그램은 KllSketch로 추정
+ * - 전체 값: 사전 인코딩(값 → int 코드)하고 코드별 빈도를 long[]로 누적하여 정확한 고유값/상위 N 계산
+ * - merge로 청크별 누적 결과를 합칠 수 있음
+ */
+public class ColumnAccumulator {
+
+    private static final int HISTOGRAM_BINS = 10;
+
+    private final String name;
+
+    private long count;
+    private final NumericStats numeric = new NumericStats();
+    private final KllSketch quantiles = new KllSketch(KllSketch.DEFAULT_K);
+
+    private final Map<Object, Integer> dictionary = new HashMap<>();
+    private final List<Object> values = new ArrayList<>();
+    private long[] frequencies = new long[16];
+
+    public ColumnAccumulator(String name) {
+        this.name = name;
+    }
+
+    public void accept(Object value) {
+        if (value == null) {
+            return;
+        }
+        count++;
+
+        Integer code = dictionary.get(value);
+        if (code == null) {
+            code = values.size();
+            dictionary.put(value, code);
+            values.add(value);
+            if (code == frequencies.length) {
+                frequencies = Arrays.copyOf(frequencies, code * 2);
+            }
+        }
+        frequencies[code]++;
+
+        double number = NumericStats.toDouble(value);
+        if (!Double.isNaN(number)) {
+            numeric.accept(number);
+            quantiles.accept(number);
+        }
+    }
+
+    /**
+     * 다른 누적기의 결과를 합침 (같은 컬럼의 다른 청크)
+     */
+    public void merge(ColumnAccumulator other) {
+        count += other.count;
+        for (int code = 0; code < other.values.size(); code++) {
+            Object value = other.values.get(code);
+            Integer mine = dictionary.get(value);
+            if (mine == null) {
+                mine = values.size();
+                dictionary.put(value, mine);
+                values.add(value);
+                if (mine >= frequencies.length) {
+                    frequencies = Arrays.copyOf(frequencies, Math.max(mine + 1, frequencies.length * 2));
+                }
+            }
+            frequencies[mine] += other.frequencies[code];
+        }
+        numeric.merge(other.numeric);
+        quantiles.merge(other.quantiles);
+    }
+
+    public ColumnSummary summarize(int topN) {
+        return new ColumnSummary(name, count, values.size(), false, numeric.getCount(),
+            numeric.getSum(), numeric.getMin(), numeric.getMax(), numeric.getMean(), numeric.getStddev(),
+            topValues(topN), quantiles.distribution(numeric.getMin(), numeric.getMax(), HISTOGRAM_BINS));
+    }
+
+    /**
+     * 빈도 상위 n개 (n이 작으므로 선택 정렬 방식, 같으면 먼저 등장한 값)
+     */
+    private List<ColumnSummary.ValueCount> topValues(int n) {
+        int size = values.size();
+        int limit = Math.min(n, size);
+        int[] picked = new int[limit];
+        boolean[] used = new boolean[size];
+        for (int k = 0; k < limit; k++) {
+            int best = -1;
+            for (int code = 0; code < size; code++) {
+                if (!used[code] && (best < 0 || frequencies[code] > frequencies[best])) {
+                    best = code;
+                }
+            }
+            used[best] = true;
+            picked[k] = best;
+        }
+
+        List<ColumnSummary.ValueCount> result = new ArrayList<>(limit);
+        for (int code : picked) {
+            result.add(new ColumnSummary.ValueCount(values.get(code), frequencies[code]));
+        }
+        return result;
+    }
+}
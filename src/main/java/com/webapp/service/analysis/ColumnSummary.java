@@ -0,0 +1,29 @@
+package com.webapp.service.analysis;
+
+import java.util.List;
+
+/**
+ * 컬럼 통계 결과
+ *
+ * @param count        null이 아닌 값 수
+ * @param distinct     고유값 수
+ * @param approximate  distinct/topValues가 스케치 기반 추정치인지 여부 (스트리밍 분석)
+ * @param numericCount 숫자로 해석 가능한 값 수 (0이면 범주형 컬럼)
+ * @param stddev       표본 표준편차 (숫자 값이 1개 이하면 0)
+ * @param topValues    빈도 상위 값 (빈도 내림차순, 추정치면 상한값)
+ * @param distribution 숫자 값 분위수/히스토그램 (숫자 컬럼이 아니면 null)
+ */
+public record ColumnSummary(String name, long count, long distinct, boolean approximate, long numericCount,
+                            double sum, double min, double max, double mean, double stddev,
+                            List<ValueCount> topValues, Distribution distribution) {
+
+    public boolean isNumeric() {
+        return numericCount > 0;
+    }
+
+    /**
+     * 값과 출현 횟수
+     */
+    public record ValueCount(Object value, long count) {
+    }
+}
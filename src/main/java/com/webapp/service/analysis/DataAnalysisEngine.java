@@ -0,0 +1,162 @@
+package com.webapp.service.analysis;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+/**
+ * 컬럼 단위 데이터 통계 엔진
+ * - 컬럼마다 행을 한 번만 훑어 모든 통계를 계산
+ * - 데이터가 충분히 크면 컬럼들을 병렬로 처리 (결과 순서는 컬럼 순서 유지)
+ * - 행이 많으면 컬럼 내에서도 행 청크별로 병렬 누적 후 merge (모든 누적기/스케치가 병합 가능)
+ * - CSV/NDJSON 업로드는 행을 하나씩 읽어 고정 크기 누적기에 반영 (전체 데이터를 메모리에 올리지 않음)
+ */
+@Service
+public class DataAnalysisEngine {
+
+    // 이 셀 수 미만이면 병렬 처리 오버헤드가 더 큼
+    private static final int PARALLEL_THRESHOLD_CELLS = 20_000;
+    private static final int TOP_N = 3;
+    // 컬럼 내 청크 분할 기준 행 수
+    private static final int CHUNK_ROWS = 50_000;
+    // 스트리밍 분석 시 컬럼 수 상한 (컬럼당 누적기 메모리가 고정이므로 전체 메모리도 상한이 생김)
+    private static final int MAX_STREAM_COLUMNS = 256;
+
+    private final ObjectReader csvReader = new CsvMapper()
+        .enable(CsvParser.Feature.TRIM_SPACES)
+        .enable(CsvParser.Feature.SKIP_EMPTY_LINES)
+        .readerFor(Map.class)
+        .with(CsvSchema.emptySchema().withHeader());
+    private final ObjectReader ndjsonReader = new ObjectMapper().readerFor(Map.class);
+
+    public List<ColumnSummary> analyze(List<Map<String, Object>> rows, Set<String> columns) {
+        List<String> names = new ArrayList<>(columns);
+        IntStream indexes = IntStream.range(0, names.size());
+        boolean parallel = (long) rows.size() * names.size() >= PARALLEL_THRESHOLD_CELLS;
+        if (parallel) {
+            indexes = indexes.parallel();
+        }
+
+        return indexes
+            .mapToObj(i -> parallel && rows.size() >= CHUNK_ROWS * 2
+                ? analyzeColumnInChunks(rows, names.get(i))
+                : analyzeColumn(rows, names.get(i)))
+            .toList();
+    }
+
+    /**
+     * CSV(첫 줄 헤더) 또는 NDJSON(한 줄에 JSON 객체 하나) 스트림 분석
+     * - 고유값/최빈값은 근사치 (ColumnSummary.approximate = true)
+     */
+    public StreamAnalysis analyzeStream(InputStream input, DataFormat format) throws IOException {
+        ObjectReader reader = format == DataFormat.CSV ? csvReader : ndjsonReader;
+        Map<String, StreamingColumnAccumulator> accumulators = new LinkedHashMap<>();
+        long rowCount = 0;
+
+        try (MappingIterator<Map<String, Object>> rows = reader.readValues(input)) {
+            while (rows.hasNextValue()) {
+                Map<String, Object> row = rows.nextValue();
+                rowCount++;
+                for (Map.Entry<String, Object> cell : row.entrySet()) {
+                    StreamingColumnAccumulator accumulator = accumulators.get(cell.getKey());
+                    if (accumulator == null) {
+                        if (accumulators.size() >= MAX_STREAM_COLUMNS) {
+                            continue;
+                        }
+                        accumulator = new StreamingColumnAccumulator(cell.getKey());
+                        accumulators.put(cell.getKey(), accumulator);
+                    }
+                    accumulator.accept(cell.getValue());
+                }
+            }
+        }
+
+        List<ColumnSummary> summaries = new ArrayList<>(accumulators.size());
+        for (StreamingColumnAccumulator accumulator : accumulators.values()) {
+            summaries.add(accumulator.summarize(TOP_N));
+        }
+        return new StreamAnalysis(rowCount, summaries);
+    }
+
+    private ColumnSummary analyzeColumn(List<Map<String, Object>> rows, String column) {
+        return accumulate(rows, column).summarize(TOP_N);
+    }
+
+    /**
+     * 행 청크별로 병렬 누적 후 청크 순서대로 merge
+     */
+    private ColumnSummary analyzeColumnInChunks(List<Map<String, Object>> rows, String column) {
+        int chunks = (rows.size() + CHUNK_ROWS - 1) / CHUNK_ROWS;
+        return IntStream.range(0, chunks)
+            .parallel()
+            .mapToObj(c -> accumulate(rows.subList(c * CHUNK_ROWS, Math.min(rows.size(), (c + 1) * CHUNK_ROWS)), column))
+            .reduce((left, right) -> {
+                left.merge(right);
+                return left;
+            })
+            .orElseThrow()
+            .summarize(TOP_N);
+    }
+
+    private ColumnAccumulator accumulate(List<Map<String, Object>> rows, String column) {
+        ColumnAccumulator accumulator = new ColumnAccumulator(column);
+        for (Map<String, Object> row : rows) {
+            accumulator.accept(row.get(column));
+        }
+        return accumulator;
+    }
+
+    /**
+     * 스트리밍 분석 입력 형식
+     */
+    public enum DataFormat {
+        CSV, NDJSON;
+
+        /**
+         * 요청 format 값 또는 파일 확장자로 형식 판별 (판별 불가 시 null)
+         */
+        public static DataFormat detect(String format, String filename) {
+            String hint = format != null && !format.isBlank() ? format : filename;
+            if (hint == null) {
+                return null;
+            }
+            String lower = hint.trim().toLowerCase();
+            if (lower.equals("csv") || lower.endsWith(".csv")) {
+                return CSV;
+            }
+            if (lower.equals("ndjson") || lower.equals("jsonl") || lower.endsWith(".ndjson")
+                    || lower.endsWith(".jsonl")) {
+                return NDJSON;
+            }
+            return null;
+        }
+
+        /**
+         * 요청 Content-Type으로 형식 판별 (판별 불가 시 null)
+         */
+        public static DataFormat fromContentType(String contentType) {
+            if (contentType == null) {
+                return null;
+            }
+            String mediaType = contentType.split(";", 2)[0].trim().toLowerCase();
+            return switch (mediaType) {
+                case "text/csv" -> CSV;
+                case "application/x-ndjson", "application/ndjson", "application/jsonl" -> NDJSON;
+                default -> null;
+            };
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.webapp.service.analysis;
+
+import java.util.List;
+
+/**
+ * 숫자 컬럼 분포 추정 (KLL 스케치 기반)
+ *
+ * @param histogram 최소~최대를 동일 폭으로 나눈 구간별 개수 (마지막 구간은 최대값 포함)
+ */
+public record Distribution(double p50, double p90, double p99, List<Bin> histogram) {
+
+    /**
+     * 히스토그램 구간 [lower, upper)
+     */
+    public record Bin(double lower, double upper, long count) {
+    }
+}
@@ -0,0 +1,207 @@
+package com.webapp.service.analysis;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * KLL 분위수 스케치
+ * - 레벨 h의 값은 가중치 2^h를 가지며, 레벨이 가득 차면 정렬 후 절반(홀/짝 위치 무작위)만 상위 레벨로 올림
+ * - 상위 레벨일수록 용량이 크고 하위 레벨은 2/3씩 줄어들어 전체 크기는 약 3k개로 고정
+ * - 순위 오차는 대략 1.7/k (k = 200이면 약 1%), merge로 청크별 결과를 합칠 수 있음
+ */
+public class KllSketch {
+
+    public static final int DEFAULT_K = 200;
+
+    private static final double DECAY = 2.0 / 3.0;
+    private static final int MIN_LEVEL_CAPACITY = 8;
+
+    private final int k;
+    private double[][] levels = new double[1][];
+    private int[] sizes = new int[1];
+    // 레벨별 용량과 합계 (레벨 수가 바뀔 때만 다시 계산)
+    private int[] capacities;
+    private int totalCapacity;
+    private int totalSize;
+    private long count;
+    private long seed = 0x9E3779B97F4A7C15L;
+
+    public KllSketch(int k) {
+        this.k = k;
+        updateCapacities();
+        this.levels[0] = new double[capacities[0]];
+    }
+
+    public void accept(double value) {
+        append(0, value);
+        count++;
+        if (totalSize > totalCapacity) {
+            compress();
+        }
+    }
+
+    public void merge(KllSketch other) {
+        for (int h = 0; h < other.sizes.length; h++) {
+            for (int i = 0; i < other.sizes[h]; i++) {
+                append(h, other.levels[h][i]);
+            }
+        }
+        count += other.count;
+        compress();
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * p50/p90/p99 추정값과 히스토그램 (값이 없으면 null)
+     *
+     * @param min  실제 최소값 (히스토그램 구간 시작)
+     * @param max  실제 최대값 (히스토그램 구간 끝)
+     * @param bins 히스토그램 구간 수 (동일 폭)
+     */
+    public Distribution distribution(double min, double max, int bins) {
+        if (count == 0) {
+            return null;
+        }
+        double[] values = new double[totalSize];
+        long[] weights = new long[values.length];
+        sortedItems(values, weights);
+
+        List<Distribution.Bin> histogram = new ArrayList<>(bins);
+        if (max <= min) {
+            histogram.add(new Distribution.Bin(min, max, count));
+        } else {
+            double width = (max - min) / bins;
+            int item = 0;
+            for (int b = 0; b < bins; b++) {
+                boolean last = b == bins - 1;
+                double lower = min + width * b;
+                double upper = last ? max : lower + width;
+                long binCount = 0;
+                while (item < values.length && (last || values[item] < upper)) {
+                    binCount += weights[item++];
+                }
+                histogram.add(new Distribution.Bin(lower, upper, binCount));
+            }
+        }
+
+        return new Distribution(quantile(values, weights, 0.5), quantile(values, weights, 0.9),
+            quantile(values, weights, 0.99), histogram);
+    }
+
+    private double quantile(double[] values, long[] weights, double q) {
+        long target = (long) Math.ceil(q * count);
+        long cumulative = 0;
+        for (int i = 0; i < values.length; i++) {
+            cumulative += weights[i];
+            if (cumulative >= target) {
+                return values[i];
+            }
+        }
+        return values[values.length - 1];
+    }
+
+    /**
+     * 전체 레벨의 값을 (값, 가중치) 쌍으로 값 오름차순 정렬
+     */
+    private void sortedItems(double[] values, long[] weights) {
+        double[] unsortedValues = new double[values.length];
+        long[] unsortedWeights = new long[values.length];
+        int n = 0;
+        for (int h = 0; h < sizes.length; h++) {
+            for (int i = 0; i < sizes[h]; i++) {
+                unsortedValues[n] = levels[h][i];
+                unsortedWeights[n] = 1L << h;
+                n++;
+            }
+        }
+
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (x, y) -> Double.compare(unsortedValues[x], unsortedValues[y]));
+        for (int i = 0; i < n; i++) {
+            values[i] = unsortedValues[order[i]];
+            weights[i] = unsortedWeights[order[i]];
+        }
+    }
+
+    private void append(int level, double value) {
+        if (level >= sizes.length) {
+            levels = Arrays.copyOf(levels, level + 1);
+            sizes = Arrays.copyOf(sizes, level + 1);
+            updateCapacities();
+            for (int h = 0; h <= level; h++) {
+                if (levels[h] == null) {
+                    levels[h] = new double[capacities[h]];
+                }
+            }
+        }
+        if (sizes[level] == levels[level].length) {
+            levels[level] = Arrays.copyOf(levels[level], levels[level].length * 2);
+        }
+        levels[level][sizes[level]++] = value;
+        totalSize++;
+    }
+
+    private void compress() {
+        while (totalSize > totalCapacity) {
+            for (int h = 0; h < sizes.length; h++) {
+                if (sizes[h] >= capacities[h]) {
+                    compact(h);
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * 레벨 h를 정렬하고 한 칸 건너 하나씩 상위 레벨로 올림 (홀수 개면 마지막 값은 남김)
+     */
+    private void compact(int h) {
+        double[] items = levels[h];
+        int size = sizes[h];
+        Arrays.sort(items, 0, size);
+
+        int pairs = size / 2;
+        int offset = nextBit();
+        int kept = size - pairs * 2;
+        double leftover = kept == 1 ? items[size - 1] : 0;
+
+        sizes[h] = 0;
+        totalSize -= size;
+        for (int i = 0; i < pairs; i++) {
+            append(h + 1, items[2 * i + offset]);
+        }
+        if (kept == 1) {
+            append(h, leftover);
+        }
+    }
+
+    /**
+     * 레벨 용량: 최상위 레벨이 k, 아래로 갈수록 2/3씩 감소
+     */
+    private void updateCapacities() {
+        capacities = new int[sizes.length];
+        totalCapacity = 0;
+        for (int h = 0; h < sizes.length; h++) {
+            int depth = sizes.length - 1 - h;
+            capacities[h] = Math.max(MIN_LEVEL_CAPACITY, (int) Math.ceil(k * Math.pow(DECAY, depth)));
+            totalCapacity += capacities[h];
+        }
+    }
+
+    /**
+     * 압축 위치 선택용 xorshift 난수 (전역 Random 경합 없이 인스턴스마다 독립)
+     */
+    private int nextBit() {
+        seed ^= seed << 13;
+        seed ^= seed >>> 7;
+        seed ^= seed << 17;
+        return (int) (seed >>> 63);
+    }
+}
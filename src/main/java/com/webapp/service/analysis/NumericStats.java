@@ -0,0 +1,96 @@
+package com.webapp.service.analysis;
+
+/**
+ * 숫자 값 온라인 통계 (개수/합/최소/최대, Welford 평균·분산)
+ * - 메모리 사용량이 값 개수와 무관하게 일정
+ * - merge로 다른 청크의 결과를 합칠 수 있음 (Chan 병렬 분산 공식)
+ */
+public class NumericStats {
+
+    private long count;
+    private double sum;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+    private double mean;
+    private double m2;
+
+    public void accept(double value) {
+        count++;
+        sum += value;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+        double delta = value - mean;
+        mean += delta / count;
+        m2 += delta * (value - mean);
+    }
+
+    public void merge(NumericStats other) {
+        if (other.count == 0) {
+            return;
+        }
+        long total = count + other.count;
+        double delta = other.mean - mean;
+        m2 += other.m2 + delta * delta * count * other.count / total;
+        mean += delta * other.count / total;
+        count = total;
+        sum += other.sum;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getSum() {
+        return sum;
+    }
+
+    public double getMin() {
+        return count > 0 ? min : 0;
+    }
+
+    public double getMax() {
+        return count > 0 ? max : 0;
+    }
+
+    public double getMean() {
+        return mean;
+    }
+
+    /**
+     * 표본 표준편차 (값이 1개 이하면 0)
+     */
+    public double getStddev() {
+        return count > 1 ? Math.sqrt(m2 / (count - 1)) : 0;
+    }
+
+    /**
+     * 숫자로 해석 (불가능하면 NaN)
+     * - Number는 그대로, 문자열은 숫자 형태일 때만 한 번 파싱
+     * - Infinity/1e999처럼 유한하지 않은 값도 NaN (합계/분산이 무한대로 오염되지 않도록)
+     */
+    public static double toDouble(Object value) {
+        if (value instanceof Number number) {
+            double result = number.doubleValue();
+            return Double.isFinite(result) ? result : Double.NaN;
+        }
+        if (!(value instanceof CharSequence)) {
+            return Double.NaN;
+        }
+        String text = value.toString().trim();
+        if (text.isEmpty()) {
+            return Double.NaN;
+        }
+        char first = text.charAt(0);
+        if (!(first >= '0' && first <= '9') && first != '-' && first != '+' && first != '.') {
+            return Double.NaN;
+        }
+        try {
+            double result = Double.parseDouble(text);
+            return Double.isFinite(result) ? result : Double.NaN;
+        } catch (NumberFormatException e) {
+            return Double.NaN;
+        }
+    }
+}
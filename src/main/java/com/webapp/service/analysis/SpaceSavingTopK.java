@@ -0,0 +1,69 @@
+package com.webapp.service.analysis;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Space-Saving 빈도 상위 값 추정
+ * - 카운터를 capacity개만 유지, 가득 차면 최소 카운터를 새 값으로 교체하고 (최소값 + 1)로 시작
+ * - 실제 빈도가 N/capacity를 넘는 값은 반드시 포함되며, 카운트는 실제 빈도의 상한
+ */
+public class SpaceSavingTopK {
+
+    private final int capacity;
+    private final Map<Object, long[]> counters;
+
+    public SpaceSavingTopK(int capacity) {
+        this.capacity = capacity;
+        this.counters = new HashMap<>(capacity * 2);
+    }
+
+    public void add(Object value) {
+        add(value, 1);
+    }
+
+    private void add(Object value, long increment) {
+        long[] counter = counters.get(value);
+        if (counter != null) {
+            counter[0] += increment;
+            return;
+        }
+        if (counters.size() < capacity) {
+            counters.put(value, new long[] {increment});
+            return;
+        }
+
+        // 최소 카운터 교체 (capacity가 작으므로 선형 탐색)
+        Object minValue = null;
+        long[] minCounter = null;
+        for (Map.Entry<Object, long[]> entry : counters.entrySet()) {
+            if (minCounter == null || entry.getValue()[0] < minCounter[0]) {
+                minValue = entry.getKey();
+                minCounter = entry.getValue();
+            }
+        }
+        counters.remove(minValue);
+        minCounter[0] += increment;
+        counters.put(value, minCounter);
+    }
+
+    public void merge(SpaceSavingTopK other) {
+        for (Map.Entry<Object, long[]> entry : other.counters.entrySet()) {
+            add(entry.getKey(), entry.getValue()[0]);
+        }
+    }
+
+    /**
+     * 추정 빈도 상위 n개
+     */
+    public List<ColumnSummary.ValueCount> top(int n) {
+        List<ColumnSummary.ValueCount> result = new ArrayList<>(counters.size());
+        for (Map.Entry<Object, long[]> entry : counters.entrySet()) {
+            result.add(new ColumnSummary.ValueCount(entry.getKey(), entry.getValue()[0]));
+        }
+        result.sort((a, b) -> Long.compare(b.count(), a.count()));
+        return result.size() > n ? List.copyOf(result.subList(0, n)) : result;
+    }
+}
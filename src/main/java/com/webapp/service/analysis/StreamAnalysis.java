@@ -0,0 +1,9 @@
+package com.webapp.service.analysis;
+
+import java.util.List;
+
+/**
+ * 스트리밍 분석 결과 (행 수 + 컬럼별 요약, 컬럼은 처음 등장한 순서)
+ */
+public record StreamAnalysis(long rowCount, List<ColumnSummary> columns) {
+}
@@ -0,0 +1,55 @@
+package com.webapp.service.analysis;
+
+/**
+ * 메모리 고정 컬럼 통계 누적기 (스트리밍 분석용)
+ * - 숫자: NumericStats (Welford) + KllSketch (분위수/히스토그램)
+ * - 고유값: HyperLogLog 추정
+ * - 상위 값: Space-Saving 추정
+ * - 행 수와 무관하게 컬럼당 수 KB만 사용
+ */
+public class StreamingColumnAccumulator {
+
+    private static final int HLL_PRECISION = 12;
+    private static final int TOP_K_CAPACITY = 64;
+    private static final int HISTOGRAM_BINS = 10;
+
+    private final String name;
+    private long count;
+    private final NumericStats numeric = new NumericStats();
+    private final KllSketch quantiles = new KllSketch(KllSketch.DEFAULT_K);
+    private final HyperLogLog distinct = new HyperLogLog(HLL_PRECISION);
+    private final SpaceSavingTopK topValues = new SpaceSavingTopK(TOP_K_CAPACITY);
+
+    public StreamingColumnAccumulator(String name) {
+        this.name = name;
+    }
+
+    public void accept(Object value) {
+        if (value == null) {
+            return;
+        }
+        count++;
+        distinct.add(value);
+        topValues.add(value);
+
+        double number = NumericStats.toDouble(value);
+        if (!Double.isNaN(number)) {
+            numeric.accept(number);
+            quantiles.accept(number);
+        }
+    }
+
+    public void merge(StreamingColumnAccumulator other) {
+        count += other.count;
+        numeric.merge(other.numeric);
+        quantiles.merge(other.quantiles);
+        distinct.merge(other.distinct);
+        topValues.merge(other.topValues);
+    }
+
+    public ColumnSummary summarize(int topN) {
+        return new ColumnSummary(name, count, Math.min(count, distinct.estimate()), true, numeric.getCount(),
+            numeric.getSum(), numeric.getMin(), numeric.getMax(), numeric.getMean(), numeric.getStddev(),
+            topValues.top(topN), quantiles.distribution(numeric.getMin(), numeric.getMax(), HISTOGRAM_BINS));
+    }
+}
@@ -0,0 +1,114 @@
+package com.webapp.service.debate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.webapp.model.DebateTranscript;
+import com.webapp.repository.DebateTranscriptRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 완료된 토론 저장소 (PostgreSQL)
+ * - 정상 완료된 토론만 저장, 같은 주제(정규화 기준)와 턴 수로 재요청되면 저장된 토론을 재생 (ai.debate.replay.enabled, 기본 꺼짐)
+ * - DB 오류는 토론 진행을 막지 않음 (저장 실패는 로그만, 조회 실패는 새 토론 진행)
+ * - 발언 JSON을 읽을 수 없는 기록은 없는 것으로 취급 (조회 API는 404, 재생 대신 새 토론 진행)
+ * - 기록 ID는 세션 ID와 별개인 임의 UUID (공유 링크에 구독 destination인 세션 ID를 노출하지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DebateArchive {
+
+    // 정규화한 주제 최대 길이 (DebateTranscript.topicKey 컬럼 길이)
+    private static final int TOPIC_KEY_MAX_LENGTH = 200;
+
+    private final DebateTranscriptRepository transcriptRepository;
+    private final ObjectMapper objectMapper;
+
+    @Value("${ai.debate.replay.enabled:false}")
+    private boolean replayEnabled;
+
+    /**
+     * 새 토론 기록 ID (저장은 비동기이므로 완료 메시지에 보낼 ID를 먼저 발급)
+     */
+    public String newTranscriptId() {
+        return UUID.randomUUID().toString();
+    }
+
+    /**
+     * 완료된 토론 저장 (비동기, 토론 스케줄러 스레드를 DB 대기로 막지 않음)
+     */
+    @Async
+    public void save(String transcriptId, String sessionId, String topic, int turns, List<DebateTurn> messages) {
+        try {
+            DebateTranscript transcript = new DebateTranscript();
+            transcript.setId(transcriptId);
+            transcript.setTopicKey(normalizeTopic(topic));
+            transcript.setTopic(topic);
+            transcript.setTurns(turns);
+            transcript.setMessages(objectMapper.writeValueAsString(messages));
+            transcriptRepository.save(transcript);
+            log.info("AI 토론 저장 - 세션 ID: {}, 기록 ID: {}, 발언 수: {}", sessionId, transcriptId, messages.size());
+        } catch (JsonProcessingException | DataAccessException e) {
+            log.warn("AI 토론 저장 실패 - 세션 ID: {}", sessionId, e);
+        }
+    }
+
+    /**
+     * 같은 주제/턴 수의 가장 최근 토론 (재생 비활성화 또는 조회 실패 시 empty)
+     */
+    public Optional<DebateTranscript> findReplay(String topic, int turns) {
+        if (!replayEnabled) {
+            return Optional.empty();
+        }
+        try {
+            return transcriptRepository.findFirstByTopicKeyAndTurnsOrderByCreatedAtDesc(normalizeTopic(topic), turns);
+        } catch (DataAccessException e) {
+            log.warn("저장된 AI 토론 조회 실패 - 주제: {}", topic, e);
+            return Optional.empty();
+        }
+    }
+
+    public Optional<DebateTranscript> findById(String id) {
+        return transcriptRepository.findById(id);
+    }
+
+    /**
+     * 저장된 발언 목록 (JSON을 읽을 수 없거나 발언이 없으면 empty)
+     */
+    public Optional<List<DebateTurn>> messagesOf(DebateTranscript transcript) {
+        try {
+            List<DebateTurn> messages = objectMapper.readValue(transcript.getMessages(), new TypeReference<List<DebateTurn>>() {});
+            if (messages != null && !messages.isEmpty()) {
+                return Optional.of(messages);
+            }
+            log.warn("저장된 토론에 발언이 없습니다 - 기록 ID: {}", transcript.getId());
+        } catch (JsonProcessingException e) {
+            log.warn("저장된 토론 형식 오류 - 기록 ID: {}, {}", transcript.getId(), e.getOriginalMessage());
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 주제 정규화: 유니코드 호환 정규화(NFKC), 소문자, 문장부호 제거, 공백 하나로 축약
+     * - "붕어빵에는 붕어가 있다?" 와 "붕어빵에는  붕어가 있다" 는 같은 키
+     */
+    static String normalizeTopic(String topic) {
+        String key = Normalizer.normalize(topic, Normalizer.Form.NFKC)
+            .toLowerCase(Locale.ROOT)
+            .replaceAll("[^\\p{L}\\p{N}]+", " ")
+            .strip();
+        return key.length() > TOPIC_KEY_MAX_LENGTH ? key.substring(0, TOPIC_KEY_MAX_LENGTH) : key;
+    }
+}
@@ -0,0 +1,178 @@
+package com.webapp.service.debate;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 토론 구독자별 미전달 메시지 수(backlog) 추적
+ * - 발행 수: DebateUpdatePublisher가 발행할 때 증가
+ * - 전달 수: clientOutboundChannel에서 구독자 WebSocket 세션으로 넘겨진 뒤(afterMessageHandled) 증가
+ * - 구독자 backlog = 구독 이후 발행 수 - 전달 수, 토론 backlog = 구독자 중 최대값
+ * - 구독자가 있는 토론만 추적 (SUBSCRIBE 시 등록, 구독자가 모두 떠나거나 세션이 닫히면 제거)
+ * - 지표는 전체 합산만 노출: ai_debate.outbound.backlog.max / .total (세션 ID는 지표에 남기지 않음)
+ * - clientInboundChannel(SUBSCRIBE/UNSUBSCRIBE/DISCONNECT)과 clientOutboundChannel에 함께 등록
+ * - 발행 노드에 연결된 구독자만 추적 (relay 모드에서 다른 노드의 구독자는 해당 노드의 전송 제한으로 보호)
+ */
+@Component
+public class DebateBacklogTracker implements ExecutorChannelInterceptor {
+
+    static final String DESTINATION_PREFIX = "/topic/ai-debate-updates/";
+
+    // 토론 세션 ID → backlog
+    private final Map<String, Backlog> backlogs = new ConcurrentHashMap<>();
+    // 구독 키(WebSocket 세션 ID + 구독 ID) → 토론 세션 ID
+    private final Map<String, String> subscriptions = new ConcurrentHashMap<>();
+
+    public DebateBacklogTracker(MeterRegistry meterRegistry) {
+        Gauge.builder("ai_debate.outbound.backlog.max", this, tracker -> tracker.aggregateDepth(true))
+            .register(meterRegistry);
+        Gauge.builder("ai_debate.outbound.backlog.total", this, tracker -> tracker.aggregateDepth(false))
+            .register(meterRegistry);
+    }
+
+    /**
+     * 발행 직전 호출 (이 노드에 구독자가 없는 토론은 추적하지 않음)
+     */
+    public void onPublished(String sessionId) {
+        Backlog backlog = backlogs.get(sessionId);
+        if (backlog != null) {
+            backlog.published.incrementAndGet();
+        }
+    }
+
+    /**
+     * 토론의 가장 느린 구독자 backlog (구독자가 없으면 0)
+     */
+    public long depth(String sessionId) {
+        Backlog backlog = backlogs.get(sessionId);
+        return backlog == null ? 0 : backlog.depth();
+    }
+
+    /**
+     * 세션이 닫힐 때 호출 (DebateSessionStore: 완료/오류/만료 모두), 구독 키는 UNSUBSCRIBE/DISCONNECT 시 정리
+     */
+    public void release(String sessionId) {
+        backlogs.remove(sessionId);
+    }
+
+    /**
+     * 전체 토론 backlog의 최대값(max=true) 또는 합계
+     */
+    private long aggregateDepth(boolean max) {
+        long result = 0;
+        for (Backlog backlog : backlogs.values()) {
+            long depth = backlog.depth();
+            result = max ? Math.max(result, depth) : result + depth;
+        }
+        return result;
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        SimpMessageType type = SimpMessageHeaderAccessor.getMessageType(message.getHeaders());
+        if (type == SimpMessageType.SUBSCRIBE) {
+            String sessionId = debateSessionId(message);
+            if (sessionId != null) {
+                Backlog backlog = backlogs.computeIfAbsent(sessionId, Backlog::new);
+                String key = subscriptionKey(message);
+                subscriptions.put(key, sessionId);
+                backlog.subscribers.put(key, new Subscriber(backlog.published.get()));
+            }
+        } else if (type == SimpMessageType.UNSUBSCRIBE) {
+            unsubscribe(subscriptionKey(message));
+        } else if (type == SimpMessageType.DISCONNECT) {
+            String prefix = SimpMessageHeaderAccessor.getSessionId(message.getHeaders()) + ":";
+            subscriptions.keySet().stream()
+                .filter(key -> key.startsWith(prefix))
+                .toList()
+                .forEach(this::unsubscribe);
+        }
+        return message;
+    }
+
+    @Override
+    public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler, Exception ex) {
+        if (SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) != SimpMessageType.MESSAGE) {
+            return;
+        }
+        String sessionId = debateSessionId(message);
+        Backlog backlog = sessionId != null ? backlogs.get(sessionId) : null;
+        if (backlog != null) {
+            Subscriber subscriber = backlog.subscribers.get(subscriptionKey(message));
+            if (subscriber != null) {
+                subscriber.delivered.incrementAndGet();
+            }
+        }
+    }
+
+    private void unsubscribe(String key) {
+        String sessionId = subscriptions.remove(key);
+        Backlog backlog = sessionId != null ? backlogs.get(sessionId) : null;
+        if (backlog != null) {
+            backlog.subscribers.remove(key);
+            removeIfIdle(backlog);
+        }
+    }
+
+    /**
+     * 구독자가 모두 떠나면 제거 (다시 구독하면 그 시점 발행 수부터 새로 추적)
+     */
+    private void removeIfIdle(Backlog backlog) {
+        if (backlog.subscribers.isEmpty()) {
+            backlogs.remove(backlog.sessionId, backlog);
+        }
+    }
+
+    private static String debateSessionId(Message<?> message) {
+        String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+        return destination != null && destination.startsWith(DESTINATION_PREFIX)
+            ? destination.substring(DESTINATION_PREFIX.length())
+            : null;
+    }
+
+    private static String subscriptionKey(Message<?> message) {
+        return SimpMessageHeaderAccessor.getSessionId(message.getHeaders()) + ":"
+            + SimpMessageHeaderAccessor.getSubscriptionId(message.getHeaders());
+    }
+
+    private static final class Backlog {
+
+        private final String sessionId;
+        private final AtomicLong published = new AtomicLong();
+        private final Map<String, Subscriber> subscribers = new ConcurrentHashMap<>();
+
+        private Backlog(String sessionId) {
+            this.sessionId = sessionId;
+        }
+
+        private long depth() {
+            long published = this.published.get();
+            long max = 0;
+            for (Subscriber subscriber : subscribers.values()) {
+                max = Math.max(max, published - subscriber.baseline - subscriber.delivered.get());
+            }
+            return max;
+        }
+    }
+
+    private static final class Subscriber {
+
+        private final long baseline;
+        private final AtomicLong delivered = new AtomicLong();
+
+        private Subscriber(long baseline) {
+            this.baseline = baseline;
+        }
+    }
+}
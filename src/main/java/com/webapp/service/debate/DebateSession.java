@@ -0,0 +1,149 @@
+package com.webapp.service.debate;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * 진행 중인 토론 세션 상태
+ * - 최근 턴만 고정 크기 링으로 보관하고, 밀려난 턴은 한 줄 요약으로 누적 (요약도 길이 상한)
+ * - 프롬프트 컨텍스트 크기가 토론 길이와 무관하게 일정
+ */
+public class DebateSession {
+
+    // 요약 한 줄에 남길 발언 길이
+    private static final int SUMMARY_LINE_CHARS = 120;
+
+    private final String sessionId;
+    private final String topic;
+    private final int recentTurns;
+    private final int summaryMaxChars;
+
+    private final Deque<DebateTurn> turns;
+    private final StringBuilder summary = new StringBuilder();
+    private int turnCount;
+
+    private final long createdAt;
+    private volatile long lastActiveAt;
+    private volatile boolean closed;
+    // 세션 종료(완료/실패/TTL 만료) 시 실행할 정리 작업
+    private final List<Runnable> closeListeners = new ArrayList<>();
+
+    DebateSession(String sessionId, String topic, int recentTurns, int summaryMaxChars) {
+        this.sessionId = sessionId;
+        this.topic = topic;
+        this.recentTurns = recentTurns;
+        this.summaryMaxChars = summaryMaxChars;
+        this.turns = new ArrayDeque<>(recentTurns + 1);
+        this.createdAt = System.currentTimeMillis();
+        this.lastActiveAt = createdAt;
+    }
+
+    public synchronized void addTurn(String speaker, String message) {
+        turns.addLast(new DebateTurn(speaker, message));
+        turnCount++;
+        if (turns.size() > recentTurns) {
+            summarize(turns.removeFirst());
+        }
+        touch();
+    }
+
+    /**
+     * 프롬프트에 붙일 토론 컨텍스트 (이전 요약 + 최근 턴 원문)
+     */
+    public synchronized String context() {
+        StringBuilder context = new StringBuilder();
+        if (summary.length() > 0) {
+            context.append("이전 토론 요약:\n").append(summary).append("\n");
+        }
+        context.append("최근 토론:\n");
+        for (DebateTurn turn : turns) {
+            context.append(turn.speaker()).append(": ").append(turn.message()).append("\n");
+        }
+        return context.toString();
+    }
+
+    public void touch() {
+        lastActiveAt = System.currentTimeMillis();
+    }
+
+    /**
+     * 밀려난 턴을 첫 문장 기준 한 줄로 요약, 상한을 넘으면 오래된 줄부터 삭제
+     */
+    private void summarize(DebateTurn turn) {
+        String message = turn.message().strip().replace('\n', ' ');
+        int sentenceEnd = indexOfSentenceEnd(message);
+        String line = message.substring(0, Math.min(sentenceEnd, SUMMARY_LINE_CHARS));
+        if (line.length() < message.length()) {
+            line += "…";
+        }
+        summary.append("- ").append(turn.speaker()).append(": ").append(line).append("\n");
+
+        while (summary.length() > summaryMaxChars) {
+            int firstLineEnd = summary.indexOf("\n");
+            if (firstLineEnd < 0) {
+                summary.setLength(0);
+                break;
+            }
+            summary.delete(0, firstLineEnd + 1);
+        }
+    }
+
+    private static int indexOfSentenceEnd(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if ((c == '.' || c == '?' || c == '!') && (i + 1 == text.length() || text.charAt(i + 1) == ' ')) {
+                return i + 1;
+            }
+        }
+        return text.length();
+    }
+
+    void close() {
+        List<Runnable> listeners;
+        synchronized (closeListeners) {
+            closed = true;
+            listeners = List.copyOf(closeListeners);
+            closeListeners.clear();
+        }
+        listeners.forEach(Runnable::run);
+    }
+
+    /**
+     * 세션 종료 시 실행할 정리 작업 등록 (이미 종료됐으면 바로 실행)
+     */
+    public void onClose(Runnable listener) {
+        synchronized (closeListeners) {
+            if (!closed) {
+                closeListeners.add(listener);
+                return;
+            }
+        }
+        listener.run();
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    public String getSessionId() {
+        return sessionId;
+    }
+
+    public String getTopic() {
+        return topic;
+    }
+
+    public synchronized int getTurnCount() {
+        return turnCount;
+    }
+
+    public long getCreatedAt() {
+        return createdAt;
+    }
+
+    public long getLastActiveAt() {
+        return lastActiveAt;
+    }
+}
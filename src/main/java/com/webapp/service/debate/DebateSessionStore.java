@@ -0,0 +1,93 @@
+package com.webapp.service.debate;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 노드별 토론 세션 저장소
+ * - 노드당 최대 세션 수 제한 (초과 시 새 토론 거부)
+ * - 마지막 활동 후 TTL이 지난 세션은 주기적으로 제거하고 close 처리 (진행 중인 토론은 다음 턴에서 중단)
+ * - 세션이 닫히면(완료/오류/만료) 구독자 backlog 추적도 해제
+ */
+@Slf4j
+@Component
+public class DebateSessionStore {
+
+    private final Map<String, DebateSession> sessions = new ConcurrentHashMap<>();
+    private final DebateBacklogTracker backlogTracker;
+
+    @Value("${ai.debate.session.ttl-ms:900000}")
+    private long ttlMs;
+
+    @Value("${ai.debate.session.max-sessions:200}")
+    private int maxSessions;
+
+    @Value("${ai.debate.context.recent-turns:4}")
+    private int recentTurns;
+
+    @Value("${ai.debate.context.summary-max-chars:1500}")
+    private int summaryMaxChars;
+
+    public DebateSessionStore(MeterRegistry meterRegistry, DebateBacklogTracker backlogTracker) {
+        this.backlogTracker = backlogTracker;
+        meterRegistry.gaugeMapSize("ai_debate.sessions", Tags.empty(), sessions);
+    }
+
+    /**
+     * 새 세션 등록 (세션 수 상한에 도달했거나 같은 ID가 진행 중이면 empty, 구분은 get(sessionId)로)
+     */
+    public Optional<DebateSession> open(String sessionId, String topic) {
+        if (sessions.containsKey(sessionId)) {
+            return Optional.empty();
+        }
+        if (sessions.size() >= maxSessions) {
+            evictExpired();
+            if (sessions.size() >= maxSessions) {
+                log.warn("토론 세션 수 상한 도달 ({}개) - 세션 거부: {}", maxSessions, sessionId);
+                return Optional.empty();
+            }
+        }
+        DebateSession session = new DebateSession(sessionId, topic, recentTurns, summaryMaxChars);
+        return sessions.putIfAbsent(sessionId, session) == null ? Optional.of(session) : Optional.empty();
+    }
+
+    public Optional<DebateSession> get(String sessionId) {
+        return Optional.ofNullable(sessions.get(sessionId));
+    }
+
+    public void close(String sessionId) {
+        DebateSession session = sessions.remove(sessionId);
+        if (session != null) {
+            session.close();
+            backlogTracker.release(sessionId);
+        }
+    }
+
+    public int size() {
+        return sessions.size();
+    }
+
+    @Scheduled(fixedDelayString = "${ai.debate.session.eviction-interval-ms:60000}")
+    public void evictExpired() {
+        long deadline = System.currentTimeMillis() - ttlMs;
+        Iterator<DebateSession> iterator = sessions.values().iterator();
+        while (iterator.hasNext()) {
+            DebateSession session = iterator.next();
+            if (session.getLastActiveAt() < deadline) {
+                iterator.remove();
+                session.close();
+                backlogTracker.release(session.getSessionId());
+                log.info("만료된 토론 세션 제거 - 세션 ID: {}, 턴 수: {}", session.getSessionId(), session.getTurnCount());
+            }
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.webapp.service.debate;
+
+/**
+ * 토론 발언 한 턴
+ */
+public record DebateTurn(String speaker, String message) {
+}
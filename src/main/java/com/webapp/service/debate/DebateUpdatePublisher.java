@@ -0,0 +1,128 @@
+package com.webapp.service.debate;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 토론 메시지 STOMP 발행기
+ * - 모든 발행을 큐에 넣고 전용 스레드 하나가 순서대로 convertAndSend (호출 스레드는 브로커 지연에 묶이지 않음)
+ * - 텍스트 조각(delta)은 큐에 대기 중인 조각 수가 상한이면 거부 → 호출 측(DeltaCoalescer)이 더 큰 조각으로 합쳐 재시도
+ * - 느린 구독자(DebateBacklogTracker의 backlog가 임계값 초과)가 있는 토론의 조각은 정책에 따라
+ *   coalesce(거부 → 다음 조각과 합쳐 재시도) 또는 drop(버림, 완료 시 전체 발언으로 복구)
+ * - 발언/오류 같은 제어 메시지는 상한과 무관하게 항상 발행
+ * - 지표: ai_debate.publish (타이머, type별), ai_debate.publish.rejected{reason}, ai_debate.publish.queue
+ */
+@Slf4j
+@Component
+public class DebateUpdatePublisher {
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final DebateBacklogTracker backlogTracker;
+    private final BlockingQueue<Update> queue = new LinkedBlockingQueue<>();
+    private final AtomicInteger queuedDeltas = new AtomicInteger();
+
+    private final Timer deltaTimer;
+    private final Timer messageTimer;
+    private final Counter rejectedDeltas;
+    private final Counter slowConsumerDeltas;
+
+    @Value("${ai.debate.publish.max-queued-deltas:1000}")
+    private int maxQueuedDeltas;
+
+    @Value("${ai.debate.slow-consumer.max-backlog:20}")
+    private long slowConsumerMaxBacklog;
+
+    @Value("${ai.debate.slow-consumer.policy:coalesce}")
+    private String slowConsumerPolicy;
+
+    private Thread worker;
+
+    public DebateUpdatePublisher(SimpMessagingTemplate messagingTemplate, DebateBacklogTracker backlogTracker,
+                                 MeterRegistry meterRegistry) {
+        this.messagingTemplate = messagingTemplate;
+        this.backlogTracker = backlogTracker;
+        this.deltaTimer = meterRegistry.timer("ai_debate.publish", "type", "delta");
+        this.messageTimer = meterRegistry.timer("ai_debate.publish", "type", "message");
+        this.rejectedDeltas = meterRegistry.counter("ai_debate.publish.rejected", "reason", "queue-full");
+        this.slowConsumerDeltas = meterRegistry.counter("ai_debate.publish.rejected", "reason", "slow-consumer");
+        meterRegistry.gaugeCollectionSize("ai_debate.publish.queue", Tags.empty(), queue);
+    }
+
+    @PostConstruct
+    public void start() {
+        worker = new Thread(this::drain, "debate-publisher");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        worker.interrupt();
+    }
+
+    /**
+     * 텍스트 조각 발행
+     * - 대기 중인 조각이 상한이거나 느린 구독자가 있으면 false (drop 정책이면 버리고 true)
+     */
+    public boolean tryPublishDelta(String sessionId, Map<String, Object> payload) {
+        if (backlogTracker.depth(sessionId) > slowConsumerMaxBacklog) {
+            slowConsumerDeltas.increment();
+            return "drop".equalsIgnoreCase(slowConsumerPolicy);
+        }
+        if (queuedDeltas.incrementAndGet() > maxQueuedDeltas) {
+            queuedDeltas.decrementAndGet();
+            rejectedDeltas.increment();
+            return false;
+        }
+        queue.add(new Update(sessionId, payload, true));
+        return true;
+    }
+
+    /**
+     * 발언/완료/오류 메시지 발행 (항상 큐에 추가)
+     */
+    public void publish(String sessionId, Map<String, Object> payload) {
+        queue.add(new Update(sessionId, payload, false));
+    }
+
+    private void drain() {
+        while (!Thread.currentThread().isInterrupted()) {
+            Update update;
+            try {
+                update = queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (update.delta()) {
+                queuedDeltas.decrementAndGet();
+            }
+
+            long start = System.nanoTime();
+            try {
+                backlogTracker.onPublished(update.sessionId());
+                messagingTemplate.convertAndSend(DebateBacklogTracker.DESTINATION_PREFIX + update.sessionId(), update.payload());
+            } catch (Exception e) {
+                log.warn("토론 메시지 발행 실패 - 세션 ID: {}", update.sessionId(), e);
+            }
+            (update.delta() ? deltaTimer : messageTimer).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private record Update(String sessionId, Map<String, Object> payload, boolean delta) {
+    }
+}
@@ -0,0 +1,96 @@
+package com.webapp.service.debate;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * 스트리밍 텍스트 조각 묶음 전송기
+ * - 토큰 단위의 작은 조각을 모아 flushIntervalMs마다 한 번, 또는 maxChars를 넘으면 즉시 sink로 전달
+ * - 발언당 전송 메시지 수가 토큰 수가 아닌 시간에 비례하도록 제한
+ * - sink가 false를 반환하면(발행 큐 포화) 버퍼에 되돌려 다음 주기에 더 큰 조각으로 재시도
+ * - close 시 남은 조각을 한 번 더 전달 시도 (close 이후 append는 무시)
+ */
+@Slf4j
+public class DeltaCoalescer {
+
+    private final ScheduledExecutorService scheduler;
+    private final long flushIntervalMs;
+    private final int maxChars;
+    private final Predicate<String> sink;
+
+    private final StringBuilder buffer = new StringBuilder();
+    private ScheduledFuture<?> pendingFlush;
+    private boolean closed;
+
+    public DeltaCoalescer(ScheduledExecutorService scheduler, long flushIntervalMs, int maxChars, Predicate<String> sink) {
+        this.scheduler = scheduler;
+        this.flushIntervalMs = flushIntervalMs;
+        this.maxChars = maxChars;
+        this.sink = sink;
+    }
+
+    public synchronized void append(String delta) {
+        if (closed) {
+            return;
+        }
+        buffer.append(delta);
+        if (buffer.length() >= maxChars) {
+            flush();
+        } else {
+            scheduleFlush();
+        }
+    }
+
+    /**
+     * 남은 조각 전달 후 종료
+     */
+    public synchronized void close() {
+        if (!closed) {
+            flush();
+            closed = true;
+        }
+    }
+
+    /**
+     * 버퍼 내용을 sink로 전달하고 예약된 flush 취소
+     * - 락 안에서 전달하여 예약 flush와 즉시 flush가 겹쳐도 조각 순서가 바뀌지 않음
+     */
+    private synchronized void flush() {
+        if (pendingFlush != null) {
+            pendingFlush.cancel(false);
+            pendingFlush = null;
+        }
+        if (closed || buffer.length() == 0) {
+            return;
+        }
+        String ready = buffer.toString();
+        boolean accepted;
+        try {
+            accepted = sink.test(ready);
+        } catch (Exception e) {
+            log.warn("스트리밍 조각 전송 실패", e);
+            accepted = true; // 전송 오류는 재시도하지 않음 (완료 시 전체 발언이 다시 전송됨)
+        }
+        if (accepted) {
+            buffer.setLength(0);
+        } else {
+            scheduleFlush();
+        }
+    }
+
+    private void scheduleFlush() {
+        if (pendingFlush != null) {
+            return;
+        }
+        try {
+            pendingFlush = scheduler.schedule(this::flush, flushIntervalMs, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // 스케줄러 종료 중: close에서 남은 조각 전달
+        }
+    }
+}
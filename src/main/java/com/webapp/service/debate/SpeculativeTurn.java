@@ -0,0 +1,163 @@
+package com.webapp.service.debate;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 미리 생성을 시작한 다음 발언 (토론 추측 실행 모드)
+ * - 직전 발언의 앞부분(basis)만 보고 다음 발언의 도입부(첫 문장)만 짧게 생성
+ * - 직전 발언이 끝나면 confirm: 최종 발언이 basis로 시작하면 전체 기록을 보고 도입부 뒤에 이어질 부분을 생성,
+ *   다르면 폐기 (해당 턴은 처음부터 새로 생성)
+ * - 채택 전까지 생성된 텍스트 조각은 버퍼에 보관, 채택 시 버퍼를 한 번에 전달하고 이후 조각은 바로 전달
+ * - 채택되지 않은 채 토론이 끝나면 cancel로 진행 중인 upstream 호출 중단
+ */
+public class SpeculativeTurn {
+
+    private final String basis;
+    private final CompletableFuture<Void> confirmed = new CompletableFuture<>();
+    private final StringBuilder buffered = new StringBuilder();
+    private final StringBuilder opening = new StringBuilder();
+    private Consumer<String> sink;
+    private CompletableFuture<String> pending; // 진행 중인 upstream 호출 (도입부 또는 이어지는 부분)
+    private CompletableFuture<String> result;
+    private boolean openingDone;
+    private boolean continuationStarted;
+    private boolean cancelled;
+
+    private SpeculativeTurn(String basis) {
+        this.basis = basis;
+    }
+
+    /**
+     * @param basis        도입부 생성에 사용한 직전 발언의 앞부분
+     * @param opening      텍스트 조각 콜백을 받아 도입부 스트리밍 호출을 시작하고 도입부 future를 반환
+     * @param continuation (도입부, 텍스트 조각 콜백)을 받아 이어지는 부분 스트리밍 호출을 시작 (confirm 이후 호출됨,
+     *                     도입부 생성에 실패했으면 빈 도입부로 호출되어 발언 전체를 생성)
+     */
+    public static SpeculativeTurn start(String basis, Function<Consumer<String>, CompletableFuture<String>> opening,
+                                        BiFunction<String, Consumer<String>, CompletableFuture<String>> continuation) {
+        SpeculativeTurn turn = new SpeculativeTurn(basis);
+        CompletableFuture<String> openingCall = opening.apply(turn::onDelta);
+        turn.track(openingCall);
+        CompletableFuture<String> result = openingCall
+            .handle((text, error) -> turn.finishOpening())
+            .thenCompose(text -> turn.confirmed.thenCompose(ignored -> turn.continueAfter(text, continuation)));
+        synchronized (turn) {
+            turn.result = result;
+        }
+        return turn;
+    }
+
+    /**
+     * 직전 발언 완료 시 호출: 도입부의 근거가 된 앞부분이 최종 발언과 일치하면 이어지는 부분 생성 시작
+     *
+     * @return 폐기되었으면 false
+     */
+    public boolean confirm(String previousTurn) {
+        if (previousTurn == null || !previousTurn.startsWith(basis)) {
+            cancel();
+            return false;
+        }
+        confirmed.complete(null);
+        return true;
+    }
+
+    /**
+     * 이 발언을 실제 턴으로 채택 (지금까지 생성된 조각을 먼저 전달)
+     *
+     * @return 도입부 + 이어지는 부분 전체
+     */
+    public synchronized CompletableFuture<String> adopt(Consumer<String> sink) {
+        if (buffered.length() > 0) {
+            sink.accept(buffered.toString());
+            buffered.setLength(0);
+        }
+        this.sink = sink;
+        return result;
+    }
+
+    /**
+     * 생성 중단 (버퍼 폐기, 이후 조각은 무시)
+     */
+    public void cancel() {
+        CompletableFuture<String> call;
+        CompletableFuture<String> whole;
+        synchronized (this) {
+            cancelled = true;
+            sink = null;
+            buffered.setLength(0);
+            call = pending;
+            whole = result;
+        }
+        confirmed.cancel(false);
+        if (call != null) {
+            call.cancel(true);
+        }
+        if (whole != null) {
+            whole.cancel(true);
+        }
+    }
+
+    /**
+     * 도입부 생성 종료 (실패해도 그때까지 전달된 조각을 도입부로 사용)
+     */
+    private synchronized String finishOpening() {
+        openingDone = true;
+        return opening.toString();
+    }
+
+    private CompletableFuture<String> continueAfter(String streamedOpening,
+                                                    BiFunction<String, Consumer<String>, CompletableFuture<String>> continuation) {
+        String openingText = streamedOpening.strip();
+        if (!openingText.isEmpty() && !Character.isWhitespace(streamedOpening.charAt(streamedOpening.length() - 1))) {
+            emit(" "); // 이미 전달된 도입부와 이어지는 부분 사이 공백
+        }
+        CompletableFuture<String> call = continuation.apply(openingText, this::onDelta);
+        track(call);
+        return call.thenApply(rest -> rest == null || openingText.isEmpty() ? rest : openingText + " " + rest.stripLeading());
+    }
+
+    private void track(CompletableFuture<String> call) {
+        boolean cancelNow;
+        synchronized (this) {
+            cancelNow = cancelled;
+            pending = call;
+        }
+        if (cancelNow) {
+            call.cancel(true);
+        }
+    }
+
+    private synchronized void onDelta(String delta) {
+        if (cancelled || delta.isEmpty()) {
+            return;
+        }
+        // 도입부와 이어지는 부분 모두 앞쪽 공백은 버림 (사이 공백은 continueAfter에서 한 번만 추가)
+        boolean leading = openingDone ? !continuationStarted : opening.length() == 0;
+        if (leading) {
+            delta = delta.stripLeading();
+            if (delta.isEmpty()) {
+                return;
+            }
+        }
+        if (openingDone) {
+            continuationStarted = true;
+        } else {
+            opening.append(delta);
+        }
+        emit(delta);
+    }
+
+    private synchronized void emit(String delta) {
+        if (cancelled) {
+            return;
+        }
+        if (sink == null) {
+            buffered.append(delta);
+        } else {
+            sink.accept(delta);
+        }
+    }
+}
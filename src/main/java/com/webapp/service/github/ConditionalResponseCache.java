@@ -0,0 +1,204 @@
+package com.webapp.service.github;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * GitHub API 응답 캐시 (ETag/Last-Modified 조건부 요청용)
+ * - 키: SHA-256(URL + 토큰) (토큰마다 볼 수 있는 내용이 다를 수 있음, 원본 토큰은 저장하지 않음)
+ * - 메모리 계층: 접근 순서 LRU, 항목 수와 본문 총 바이트 상한
+ * - 디스크 계층(선택): 메모리에서 밀려난 항목도 재시작 후까지 재검증에 사용, max-age-ms가 지난 파일은 주기적으로 삭제
+ * - 본문은 원본 JSON 문자열로 보관 (호출 측이 응답 Map을 수정해도 캐시가 오염되지 않도록 매번 새로 역직렬화)
+ */
+@Slf4j
+@Component
+public class ConditionalResponseCache {
+
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    // 접근 순서 LinkedHashMap (this로 동기화)
+    private final LinkedHashMap<String, CachedResponse> memory = new LinkedHashMap<>(16, 0.75f, true);
+    private long memoryBytes;
+
+    @Value("${github.response-cache.max-entries:1000}")
+    private int maxEntries;
+
+    @Value("${github.response-cache.max-bytes:33554432}")
+    private long maxBytes;
+
+    @Value("${github.response-cache.disk.enabled:false}")
+    private boolean diskEnabled;
+
+    @Value("${github.response-cache.disk.directory:${java.io.tmpdir}/github-response-cache}")
+    private String diskDirectory;
+
+    @Value("${github.response-cache.disk.max-age-ms:604800000}")
+    private long diskMaxAgeMs;
+
+    private Path diskPath;
+
+    public ConditionalResponseCache(ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        meterRegistry.gauge("github.response_cache.bytes", this, cache -> cache.memoryBytes());
+    }
+
+    @PostConstruct
+    public void init() {
+        if (!diskEnabled) {
+            return;
+        }
+        try {
+            diskPath = Files.createDirectories(Paths.get(diskDirectory));
+            log.info("GitHub 응답 디스크 캐시 사용: {}", diskPath);
+        } catch (IOException e) {
+            log.warn("GitHub 응답 디스크 캐시 디렉토리 생성 실패 - 메모리 캐시만 사용: {}", diskDirectory, e);
+        }
+    }
+
+    public static String key(String url, String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(url.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) '\n');
+            digest.update(String.valueOf(token).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 캐시된 응답 (메모리 → 디스크 순으로 조회, 디스크에서 찾으면 메모리로 올림)
+     */
+    public Optional<CachedResponse> get(String key) {
+        CachedResponse cached;
+        synchronized (this) {
+            cached = memory.get(key);
+        }
+        if (cached == null && diskPath != null) {
+            cached = readDisk(key);
+            if (cached != null) {
+                putMemory(key, cached);
+            }
+        }
+        return Optional.ofNullable(cached);
+    }
+
+    /**
+     * 응답 저장 (본문이 없거나 ETag와 Last-Modified가 모두 없으면 재검증할 수 없으므로 저장하지 않음)
+     */
+    public void put(String key, CachedResponse response) {
+        if (response.body() == null || (response.etag() == null && response.lastModified() == null)) {
+            return;
+        }
+        putMemory(key, response);
+        if (diskPath != null) {
+            writeDisk(key, response);
+        }
+    }
+
+    /**
+     * 304 응답 시 호출 (히트 지표)
+     */
+    public void recordRevalidated() {
+        meterRegistry.counter("github.response_cache", "result", "not-modified").increment();
+    }
+
+    public void recordFetched() {
+        meterRegistry.counter("github.response_cache", "result", "fetched").increment();
+    }
+
+    public synchronized long memoryBytes() {
+        return memoryBytes;
+    }
+
+    private synchronized void putMemory(String key, CachedResponse response) {
+        CachedResponse previous = memory.put(key, response);
+        if (previous != null) {
+            memoryBytes -= previous.body().length();
+        }
+        memoryBytes += response.body().length();
+
+        Iterator<CachedResponse> eldest = memory.values().iterator();
+        while ((memory.size() > maxEntries || memoryBytes > maxBytes) && eldest.hasNext()) {
+            memoryBytes -= eldest.next().body().length();
+            eldest.remove();
+        }
+    }
+
+    private CachedResponse readDisk(String key) {
+        Path file = diskPath.resolve(key + ".json");
+        if (!Files.exists(file)) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(file.toFile(), CachedResponse.class);
+        } catch (IOException e) {
+            log.debug("GitHub 응답 디스크 캐시 읽기 실패: {}", file, e);
+            return null;
+        }
+    }
+
+    private void writeDisk(String key, CachedResponse response) {
+        try {
+            // 임시 파일에 쓴 뒤 이동 (동시 읽기에서 잘린 파일을 보지 않도록)
+            Path temp = Files.createTempFile(diskPath, key, ".tmp");
+            objectMapper.writeValue(temp.toFile(), response);
+            Files.move(temp, diskPath.resolve(key + ".json"), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.debug("GitHub 응답 디스크 캐시 쓰기 실패: {}", key, e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${github.response-cache.disk.cleanup-interval-ms:3600000}")
+    public void cleanupDisk() {
+        if (diskPath == null) {
+            return;
+        }
+        long deadline = System.currentTimeMillis() - diskMaxAgeMs;
+        try (Stream<Path> files = Files.list(diskPath)) {
+            files.filter(file -> {
+                try {
+                    return Files.getLastModifiedTime(file).toMillis() < deadline;
+                } catch (IOException e) {
+                    return false;
+                }
+            }).forEach(file -> {
+                try {
+                    Files.deleteIfExists(file);
+                } catch (IOException e) {
+                    log.debug("GitHub 응답 디스크 캐시 삭제 실패: {}", file, e);
+                }
+            });
+        } catch (IOException e) {
+            log.warn("GitHub 응답 디스크 캐시 정리 실패", e);
+        }
+    }
+
+    /**
+     * 캐시된 응답 (본문은 원본 JSON)
+     */
+    public record CachedResponse(String etag, String lastModified, String body) {
+    }
+}
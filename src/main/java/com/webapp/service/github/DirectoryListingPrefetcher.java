@@ -0,0 +1,165 @@
+package com.webapp.service.github;
+
+import com.webapp.service.GitHubApiService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 저장소 디렉토리 목록 조회 + 다음에 열 가능성이 높은 하위 디렉토리 미리 조회 (GitHub 뷰어 탐색용)
+ * - 디렉토리를 열면 하위 디렉토리 max-dirs개를 githubCrawlExecutor에서 미리 조회해 ttl-ms 동안 보관
+ *   → 하위 디렉토리를 클릭하면 GitHub 요청 없이 응답 (아직 조회 중이면 join-timeout-ms까지 결과를 기다림)
+ * - 하위 디렉토리가 하나뿐인 경로(src/main/java/com/... 같은 패키지 경로)는 chain-depth 단계까지 이어서 미리 조회
+ * - 미리 조회는 BULK 우선순위 (rate limit 예산이 부족하면 하지 않음), 실패하면 보관하지 않고 요청 시 직접 조회
+ * - 미리 조회한 응답은 ConditionalResponseCache에도 남으므로 보관 기간이 지난 뒤에도 ETag 재검증(304)으로 처리됨
+ * - 지표: github.prefetch{result=hit|miss|started}
+ */
+@Slf4j
+@Component
+public class DirectoryListingPrefetcher {
+
+    private final GitHubApiService gitHubApiService;
+    private final ExecutorService githubCrawlExecutor;
+    private final RateLimitGovernor rateLimitGovernor;
+
+    // 저장소/경로/토큰 키 → 미리 조회한 목록
+    private final Map<String, Prefetched> prefetched = new ConcurrentHashMap<>();
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter started;
+
+    @Value("${github.viewer.prefetch.enabled:true}")
+    private boolean enabled;
+
+    @Value("${github.viewer.prefetch.max-dirs:4}")
+    private int maxDirs;
+
+    @Value("${github.viewer.prefetch.chain-depth:3}")
+    private int chainDepth;
+
+    @Value("${github.viewer.prefetch.ttl-ms:30000}")
+    private long ttlMs;
+
+    @Value("${github.viewer.prefetch.max-entries:500}")
+    private int maxEntries;
+
+    @Value("${github.viewer.prefetch.join-timeout-ms:2000}")
+    private long joinTimeoutMs;
+
+    public DirectoryListingPrefetcher(GitHubApiService gitHubApiService, ExecutorService githubCrawlExecutor,
+                                      RateLimitGovernor rateLimitGovernor, MeterRegistry meterRegistry) {
+        this.gitHubApiService = gitHubApiService;
+        this.githubCrawlExecutor = githubCrawlExecutor;
+        this.rateLimitGovernor = rateLimitGovernor;
+        this.hits = meterRegistry.counter("github.prefetch", "result", "hit");
+        this.misses = meterRegistry.counter("github.prefetch", "result", "miss");
+        this.started = meterRegistry.counter("github.prefetch", "result", "started");
+    }
+
+    /**
+     * 디렉토리 목록 (미리 조회한 결과가 있으면 사용) 후 하위 디렉토리 미리 조회 시작
+     */
+    public List<Map<String, Object>> list(String owner, String repo, String path, String token) {
+        List<Map<String, Object>> items = takePrefetched(key(owner, repo, path, token));
+        if (items == null) {
+            misses.increment();
+            items = gitHubApiService.getContents(owner, repo, path, token);
+        } else {
+            hits.increment();
+        }
+        prefetchChildren(owner, repo, items, token, chainDepth);
+        return items;
+    }
+
+    /**
+     * 보관 기간이 지난 항목 정리
+     */
+    @Scheduled(fixedDelayString = "${github.viewer.prefetch.cleanup-interval-ms:60000}")
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        prefetched.values().removeIf(entry -> entry.isExpired(now, ttlMs));
+    }
+
+    private List<Map<String, Object>> takePrefetched(String key) {
+        Prefetched entry = prefetched.get(key);
+        if (entry == null || entry.isExpired(System.currentTimeMillis(), ttlMs)) {
+            return null;
+        }
+        try {
+            // 미리 조회가 rate limit 대기 중이거나 느리면 오래 기다리지 않고 직접 조회 (INTERACTIVE 우선순위)
+            return entry.listing().get(joinTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException | TimeoutException e) {
+            return null; // 실패한 미리 조회는 whenComplete에서 제거됨
+        }
+    }
+
+    /**
+     * 하위 디렉토리 미리 조회 (목록 순서대로 max-dirs개)
+     *
+     * @param depth 하위 디렉토리가 하나뿐인 경로를 더 따라갈 수 있는 단계 수
+     */
+    private void prefetchChildren(String owner, String repo, List<Map<String, Object>> items, String token, int depth) {
+        if (!enabled || items == null) {
+            return;
+        }
+        List<String> dirs = items.stream()
+            .filter(item -> "dir".equals(item.get("type")) && !shouldSkipDir((String) item.get("name")))
+            .map(item -> (String) item.get("path"))
+            .limit(maxDirs)
+            .toList();
+
+        for (String dir : dirs) {
+            String key = key(owner, repo, dir, token);
+            Prefetched existing = prefetched.get(key);
+            if ((existing != null && !existing.isExpired(System.currentTimeMillis(), ttlMs)) || prefetched.size() >= maxEntries) {
+                continue;
+            }
+
+            CompletableFuture<List<Map<String, Object>>> listing = CompletableFuture.supplyAsync(
+                rateLimitGovernor.bulk(() -> gitHubApiService.getContents(owner, repo, dir, token)), githubCrawlExecutor);
+            Prefetched entry = new Prefetched(listing, System.currentTimeMillis());
+            prefetched.put(key, entry);
+            started.increment();
+
+            listing.whenComplete((children, e) -> {
+                if (e != null) {
+                    prefetched.remove(key, entry);
+                    log.debug("Directory prefetch failed: {} ({})", dir, e.getMessage());
+                } else if (depth > 1 && children.stream().filter(child -> "dir".equals(child.get("type"))).count() == 1) {
+                    prefetchChildren(owner, repo, children, token, depth - 1);
+                }
+            });
+        }
+    }
+
+    private static boolean shouldSkipDir(String name) {
+        return name.equals("target") || name.equals(".git") || name.equals("node_modules");
+    }
+
+    private static String key(String owner, String repo, String path, String token) {
+        return ConditionalResponseCache.key(owner + "/" + repo + "/" + path, token);
+    }
+
+    private record Prefetched(CompletableFuture<List<Map<String, Object>>> listing, long createdAt) {
+
+        boolean isExpired(long now, long ttlMs) {
+            return now - createdAt > ttlMs;
+        }
+    }
+}
@@ -0,0 +1,282 @@
+package com.webapp.service.github;
+
+import com.webapp.service.GitHubApiService.GitHubRateLimitException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * GitHub rate limit 관리 (토큰별 남은 요청 수 추적)
+ * - 응답의 X-RateLimit-Limit/Remaining/Reset, Retry-After(secondary rate limit)로 토큰별 예산 갱신
+ * - 요청 전 acquire로 진행 중 요청 수(inFlight)를 늘리고 응답 후 Permit.close로 줄임
+ *   → 사용 가능 = 서버가 알려준 remaining - inFlight (동시 요청이 몰려도 0을 넘겨 쓰지 않음)
+ *   → 304 재검증처럼 차감되지 않는 응답은 remaining이 그대로이므로 예산도 그대로
+ * - 우선순위: INTERACTIVE(파일/구조 조회, 기본값)는 0까지 사용, BULK(텍스트 뷰 생성)는 bulk-reserve개를 남겨둠
+ *   → 예산이 reserve 이하면 BULK는 리셋까지 bulk-max-wait-ms 이내면 기다리고, 아니면 GitHubRateLimitException
+ *   → 공용 풀(githubCrawlExecutor)에서 실행되는 호출(bulk로 감싼 호출)은 기다리지 않고 바로 예외 (풀 스레드 점유 방지)
+ * - 우선순위는 호출 스레드 기준 (callAs/bulk로 지정)
+ * - 토큰 키는 TokenHasher(HMAC), 지표 태그는 그 앞 12자
+ * - 지표: github.rate_limit.remaining/limit{token}, github.rate_limit.throttled{priority, outcome}
+ */
+@Slf4j
+@Component
+public class RateLimitGovernor {
+
+    public enum Priority { INTERACTIVE, BULK }
+
+    private static final ThreadLocal<Priority> CURRENT_PRIORITY = ThreadLocal.withInitial(() -> Priority.INTERACTIVE);
+    // false면 예산 부족 시 기다리지 않음 (공용 풀 스레드)
+    private static final ThreadLocal<Boolean> MAY_WAIT = ThreadLocal.withInitial(() -> true);
+
+    private static final Permit NO_PERMIT = () -> { };
+
+    private final MeterRegistry meterRegistry;
+    private final TokenHasher tokenHasher;
+    // 토큰 해시 → 예산
+    private final Map<String, Budget> budgets = new ConcurrentHashMap<>();
+
+    @Value("${github.rate-limit.bulk-reserve:200}")
+    private int bulkReserve;
+
+    @Value("${github.rate-limit.bulk-max-wait-ms:30000}")
+    private long bulkMaxWaitMs;
+
+    public RateLimitGovernor(MeterRegistry meterRegistry, TokenHasher tokenHasher) {
+        this.meterRegistry = meterRegistry;
+        this.tokenHasher = tokenHasher;
+    }
+
+    /**
+     * 지정한 우선순위로 호출 (현재 스레드의 GitHub 요청에 적용)
+     */
+    public <T> T callAs(Priority priority, Supplier<T> call) {
+        Priority previous = CURRENT_PRIORITY.get();
+        CURRENT_PRIORITY.set(priority);
+        try {
+            return call.get();
+        } finally {
+            CURRENT_PRIORITY.set(previous);
+        }
+    }
+
+    /**
+     * 공용 풀에서 실행될 호출을 BULK 우선순위로 감쌈 (예산이 부족하면 기다리지 않고 바로 예외)
+     */
+    public <T> Supplier<T> bulk(Supplier<T> call) {
+        return () -> {
+            Boolean previous = MAY_WAIT.get();
+            MAY_WAIT.set(false);
+            try {
+                return callAs(Priority.BULK, call);
+            } finally {
+                MAY_WAIT.set(previous);
+            }
+        };
+    }
+
+    /**
+     * 요청 전 예산 1 예약, 응답(또는 실패) 후 반드시 close (예산을 모르면 통과)
+     * - 부족하면 BULK는 리셋까지 기다리거나(bulk-max-wait-ms 이내, 풀 스레드 제외) 예외, INTERACTIVE는 바로 예외
+     */
+    public Permit acquire(String token) {
+        Budget budget = budgets.get(key(token));
+        if (budget == null) {
+            return NO_PERMIT;
+        }
+        Priority priority = CURRENT_PRIORITY.get();
+        while (true) {
+            long waitMs = budget.tryAcquire(priority == Priority.BULK ? bulkReserve : 0, System.currentTimeMillis());
+            if (waitMs == 0) {
+                return budget::release;
+            }
+            if (priority != Priority.BULK || waitMs > bulkMaxWaitMs || !MAY_WAIT.get()) {
+                throttled(priority, "rejected");
+                throw new GitHubRateLimitException("GitHub rate limit budget exhausted for " + priority + " requests",
+                    (waitMs + 999) / 1000);
+            }
+            throttled(priority, "delayed");
+            log.info("GitHub rate limit 예산 부족 - BULK 요청 {}ms 대기", waitMs);
+            try {
+                Thread.sleep(waitMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new GitHubRateLimitException("Interrupted while waiting for GitHub rate limit reset", 1);
+            }
+        }
+    }
+
+    /**
+     * BULK 작업 시작 전 확인 (지금 시작하면 거부될 상황이면 예외, 차감하지 않음)
+     */
+    public void checkBulk(String token) {
+        Budget budget = budgets.get(key(token));
+        if (budget == null) {
+            return;
+        }
+        long waitMs = budget.waitMs(bulkReserve, System.currentTimeMillis());
+        if (waitMs > bulkMaxWaitMs) {
+            throttled(Priority.BULK, "rejected");
+            throw new GitHubRateLimitException("GitHub rate limit budget reserved for interactive requests", (waitMs + 999) / 1000);
+        }
+    }
+
+    /**
+     * 응답 헤더로 예산 갱신 (rate limit 헤더가 없으면 무시)
+     */
+    public void record(String token, HttpHeaders headers) {
+        if (headers == null) {
+            return;
+        }
+        Long limit = longHeader(headers, "X-RateLimit-Limit");
+        Long remaining = longHeader(headers, "X-RateLimit-Remaining");
+        Long resetEpochSeconds = longHeader(headers, "X-RateLimit-Reset");
+        Long retryAfterSeconds = longHeader(headers, HttpHeaders.RETRY_AFTER);
+        if ((limit == null || remaining == null || resetEpochSeconds == null) && retryAfterSeconds == null) {
+            return;
+        }
+
+        String key = key(token);
+        Budget budget = budgets.computeIfAbsent(key, this::register);
+        if (limit != null && remaining != null && resetEpochSeconds != null) {
+            budget.update(limit, remaining, resetEpochSeconds * 1000);
+        }
+        if (retryAfterSeconds != null) {
+            budget.blockUntil(System.currentTimeMillis() + retryAfterSeconds * 1000);
+        }
+    }
+
+    /**
+     * 리셋 후 오래 쓰이지 않은 토큰 예산과 지표 제거
+     */
+    @Scheduled(fixedDelayString = "${github.rate-limit.cleanup-interval-ms:600000}")
+    public void evictStale() {
+        long deadline = System.currentTimeMillis() - 3_600_000;
+        Iterator<Budget> iterator = budgets.values().iterator();
+        while (iterator.hasNext()) {
+            Budget budget = iterator.next();
+            if (budget.lastUpdatedAt < deadline) {
+                iterator.remove();
+                budget.gauges.forEach(meterRegistry::remove);
+            }
+        }
+    }
+
+    private Budget register(String key) {
+        Budget budget = new Budget();
+        String tag = key.substring(0, 12);
+        budget.gauges = List.of(
+            Gauge.builder("github.rate_limit.remaining", budget, b -> b.remaining(System.currentTimeMillis()))
+                .tag("token", tag).register(meterRegistry),
+            Gauge.builder("github.rate_limit.limit", budget, b -> b.limit).tag("token", tag).register(meterRegistry)
+        );
+        return budget;
+    }
+
+    private void throttled(Priority priority, String outcome) {
+        meterRegistry.counter("github.rate_limit.throttled", "priority", priority.name().toLowerCase(), "outcome", outcome)
+            .increment();
+    }
+
+    private static Long longHeader(HttpHeaders headers, String name) {
+        String value = headers.getFirst(name);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private String key(String token) {
+        return tokenHasher.hash(token);
+    }
+
+    /**
+     * acquire로 예약한 예산 (응답 처리 후 close)
+     */
+    @FunctionalInterface
+    public interface Permit extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    /**
+     * 토큰 하나의 rate limit 창 (this로 동기화)
+     */
+    private static final class Budget {
+
+        private long limit;
+        private long remaining;
+        private long resetAt;
+        private long blockedUntil;
+        private long inFlight;
+        private volatile long lastUpdatedAt = System.currentTimeMillis();
+        private List<Gauge> gauges = List.of();
+
+        synchronized void update(long limit, long remaining, long resetAt) {
+            if (resetAt != this.resetAt) { // 새 창
+                this.limit = limit;
+                this.remaining = remaining;
+                this.resetAt = resetAt;
+            } else {
+                // 같은 창: 먼저 보낸 요청의 응답이 늦게 와도 더 작은(최신) 값을 유지
+                this.remaining = Math.min(this.remaining, remaining);
+            }
+            lastUpdatedAt = System.currentTimeMillis();
+        }
+
+        synchronized void blockUntil(long until) {
+            blockedUntil = Math.max(blockedUntil, until);
+            lastUpdatedAt = System.currentTimeMillis();
+        }
+
+        /**
+         * reserve를 남기고 1 예약, 성공하면 0, 부족하면 예산이 회복될 때까지의 대기 시간(ms)
+         */
+        synchronized long tryAcquire(int reserve, long now) {
+            long waitMs = waitMs(reserve, now);
+            if (waitMs == 0) {
+                inFlight++;
+            }
+            return waitMs;
+        }
+
+        /**
+         * 응답 처리 후 예약 해제 (실제 사용량은 응답 헤더의 remaining에 반영됨)
+         */
+        synchronized void release() {
+            inFlight = Math.max(0, inFlight - 1);
+        }
+
+        synchronized long waitMs(int reserve, long now) {
+            if (resetAt > 0 && now >= resetAt) {
+                // 리셋 시각이 지나면 새 창으로 간주 (실제 리셋 시각은 다음 응답 헤더로 보정, GitHub 창은 1시간)
+                remaining = limit;
+                resetAt = now + 3_600_000;
+            }
+            if (blockedUntil > now) {
+                return blockedUntil - now;
+            }
+            if (remaining(now) - inFlight > Math.min(reserve, limit - 1)) {
+                return 0;
+            }
+            return Math.max(1, resetAt - now);
+        }
+
+        synchronized long remaining(long now) {
+            return resetAt > 0 && now >= resetAt ? limit : remaining;
+        }
+    }
+}
@@ -0,0 +1,431 @@
+package com.webapp.service.github;
+
+import com.webapp.service.GitHubApiService;
+import com.webapp.service.GitHubApiService.GitHubRateLimitException;
+import com.webapp.service.github.RateLimitGovernor.Priority;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 저장소 텍스트 뷰 생성기 (저장소 정보, 최근 커밋, 파일 트리, 소스/설정/템플릿 파일 내용)
+ * - 항상 호출 측이 지정한 커밋(ref, 보통 SHA) 기준으로 생성 (두 모드 모두, 생성 도중 push가 있어도 섞이지 않음)
+ * - snapshot 모드(기본): git/trees 1회 + zipball 1회로 전체 트리와 파일 내용을 가져옴
+ *   → 파일 수와 무관하게 GitHub 요청 4회 (트리가 잘렸거나 실패하면 crawl 모드로 대체)
+ * - crawl 모드: 디렉토리/파일마다 contents API 호출 (?ref=로 같은 커밋 고정)
+ * - crawl 모드의 디렉토리 조회와 파일 내용 조회를 githubCrawlExecutor(고정 크기 풀)에서 병렬 실행
+ *   → 동시 GitHub 요청 수가 github.crawl.concurrency로 제한됨 (secondary rate limit 대응)
+ * - 각 조회는 문자열 조각 future를 반환하고, 조각은 항상 원래(순차 탐색) 순서대로 이어 붙임
+ *   → 병렬 실행과 무관하게 출력이 결정적
+ * - write: 완성된 조각부터 순서대로 전달 (스트리밍 응답용), generate: 전체 문자열
+ * - 풀 스레드가 하위 작업 완료를 기다리지 않도록 future 조합만 사용 (풀 크기가 작아도 교착 없음)
+ * - 모든 GitHub 요청은 BULK 우선순위 (rate limit 예산이 부족하면 대기 또는 GitHubRateLimitException)
+ *   → rate limit 실패는 빈 조각으로 삼키지 않고 전파 (불완전한 결과가 캐시되지 않도록)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RepositoryTextViewGenerator {
+
+    private static final int MAX_TREE_DEPTH = 3;
+    private static final String JAVA_SOURCE_ROOT = "src/main/java";
+    private static final String TEMPLATE_DIR = "src/main/resources/templates";
+    private static final String[] CONFIG_FILES = {
+        "pom.xml",
+        "src/main/resources/application.properties",
+        "src/main/resources/application-prod.properties"
+    };
+
+    private final GitHubApiService gitHubApiService;
+    private final ExecutorService githubCrawlExecutor;
+    private final RateLimitGovernor rateLimitGovernor;
+
+    @Value("${github.crawl.timeout-ms:60000}")
+    private long crawlTimeoutMs;
+
+    @Value("${github.text-view.mode:snapshot}")
+    private String mode;
+
+    /**
+     * 텍스트 뷰 생성 (전체 저장소 요약)
+     *
+     * @param ref 기준 커밋 SHA (텍스트 뷰 캐시 키와 같은 값)
+     */
+    public String generate(String owner, String repo, String ref, String token) {
+        StringBuilder sb = new StringBuilder();
+        write(owner, repo, ref, token, sb::append);
+        return sb.toString();
+    }
+
+    /**
+     * 텍스트 뷰를 조각 단위로 순서대로 전달 (섹션/파일을 가져오는 대로 바로 out으로 전달, 전체를 메모리에 모으지 않음)
+     * - snapshot 모드가 첫 조각을 내보내기 전에 실패하면 crawl 모드로 대체, 전달 도중 실패하면 예외 전파
+     *   (rate limit 실패는 요청이 훨씬 많은 crawl 모드로 대체하지 않음)
+     */
+    public void write(String owner, String repo, String ref, String token, Consumer<String> out) {
+        rateLimitGovernor.callAs(Priority.BULK, () -> {
+            writeAs(owner, repo, ref, token, out);
+            return null;
+        });
+    }
+
+    private void writeAs(String owner, String repo, String ref, String token, Consumer<String> out) {
+        if ("snapshot".equalsIgnoreCase(mode)) {
+            AtomicBoolean started = new AtomicBoolean();
+            try {
+                writeSnapshot(owner, repo, ref, token, chunk -> {
+                    started.set(true);
+                    out.accept(chunk);
+                });
+                return;
+            } catch (RuntimeException e) {
+                if (started.get() || e instanceof GitHubRateLimitException) {
+                    throw e;
+                }
+                log.warn("Snapshot text view failed, falling back to crawl: {}", e.getMessage());
+            }
+        }
+        writeByCrawl(owner, repo, ref, token, out);
+    }
+
+    /**
+     * snapshot 모드: 지정한 커밋의 트리와 zipball로 생성 (crawl 모드와 같은 형식/순서)
+     * - zipball 항목은 트리 순서로 오므로 대부분 받는 즉시 전달, 순서가 앞선 파일보다 먼저 온 파일만 잠시 보관
+     */
+    private void writeSnapshot(String owner, String repo, String ref, String token, Consumer<String> out) {
+        Map<String, Object> repoInfo = gitHubApiService.getRepositoryInfo(owner, repo, token);
+        List<Map<String, Object>> commits = gitHubApiService.getRecentCommits(owner, repo, ref, token, 5);
+
+        Map<String, Object> tree = gitHubApiService.getTree(owner, repo, ref, token);
+        if (Boolean.TRUE.equals(tree.get("truncated"))) {
+            throw new IllegalStateException("Tree listing truncated");
+        }
+        List<Map<String, Object>> entries = (List<Map<String, Object>>) tree.get("tree");
+
+        // 트리 항목은 전위 순회 순서 → crawl 모드의 재귀 탐색 순서와 같음
+        List<String> javaFiles = new ArrayList<>();
+        List<String> htmlFiles = new ArrayList<>();
+        for (Map<String, Object> entry : entries) {
+            String path = (String) entry.get("path");
+            if (!"blob".equals(entry.get("type"))) {
+                continue;
+            }
+            if (path.startsWith(JAVA_SOURCE_ROOT + "/") && path.endsWith(".java")) {
+                javaFiles.add(path);
+            } else if (path.startsWith(TEMPLATE_DIR + "/") && path.endsWith(".html")
+                && path.indexOf('/', TEMPLATE_DIR.length() + 1) < 0) {
+                htmlFiles.add(path);
+            }
+        }
+
+        // 머리말(저장소 정보, 커밋, 트리)은 zipball 응답이 시작된 뒤 첫 조각으로 전달 (그 전에 실패하면 crawl로 대체 가능)
+        StringBuilder preamble = new StringBuilder();
+        preamble.append("=== GitHub Repository: ").append(owner).append("/").append(repo).append(" ===\n\n");
+        preamble.append(repositoryInfo(repoInfo));
+        preamble.append(recentCommits(commits));
+        preamble.append("\n=== File Structure ===\n");
+        appendSnapshotTree(preamble, entries);
+        preamble.append("\n=== Java Source Files ===\n\n");
+
+        OrderedFileWriter writer = new OrderedFileWriter(out);
+        writer.text(preamble.toString());
+        javaFiles.forEach(writer::file);
+        writer.text("\n=== Configuration Files ===\n\n");
+        for (String path : CONFIG_FILES) {
+            writer.file(path);
+        }
+        writer.text("\n=== HTML Templates ===\n\n");
+        htmlFiles.forEach(writer::file);
+
+        gitHubApiService.forEachFile(owner, repo, ref, token, writer::isWanted, writer::accept);
+        writer.finish();
+    }
+
+    /**
+     * 트리 목록으로 파일 트리 출력 (깊이 MAX_TREE_DEPTH까지, 제외 항목은 하위까지 생략)
+     */
+    private static void appendSnapshotTree(StringBuilder sb, List<Map<String, Object>> entries) {
+        for (Map<String, Object> entry : entries) {
+            String[] segments = ((String) entry.get("path")).split("/");
+            int depth = segments.length - 1;
+            if (depth > MAX_TREE_DEPTH || Arrays.stream(segments).anyMatch(RepositoryTextViewGenerator::shouldSkipItem)) {
+                continue;
+            }
+            sb.append("  ".repeat(depth))
+                .append("tree".equals(entry.get("type")) ? "📁 " : "📄 ")
+                .append(segments[depth])
+                .append("\n");
+        }
+    }
+
+    /**
+     * 파일 내용 블록 (내용이 없으면 제목만)
+     */
+    private static String fileBlock(String path, String content) {
+        String header = "\n━━━ " + path + " ━━━\n";
+        return content == null ? header : header + content + "\n";
+    }
+
+    /**
+     * crawl 모드: contents API로 디렉토리/파일을 병렬 조회, 섹션이 완료되는 대로 순서대로 전달
+     */
+    private void writeByCrawl(String owner, String repo, String ref, String token, Consumer<String> out) {
+        List<CompletableFuture<String>> sections = List.of(
+            CompletableFuture.completedFuture("=== GitHub Repository: " + owner + "/" + repo + " ===\n\n"),
+            async(() -> repositoryInfo(gitHubApiService.getRepositoryInfo(owner, repo, token))),
+            async(() -> recentCommits(gitHubApiService.getRecentCommits(owner, repo, ref, token, 5))),
+            CompletableFuture.completedFuture("\n=== File Structure ===\n"),
+            fileTree(owner, repo, "", 0, ref, token),
+            CompletableFuture.completedFuture("\n=== Java Source Files ===\n\n"),
+            javaFiles(owner, repo, JAVA_SOURCE_ROOT, ref, token),
+            CompletableFuture.completedFuture("\n=== Configuration Files ===\n\n"),
+            configFiles(owner, repo, ref, token),
+            CompletableFuture.completedFuture("\n=== HTML Templates ===\n\n"),
+            htmlFiles(owner, repo, TEMPLATE_DIR, ref, token)
+        );
+
+        long deadline = System.currentTimeMillis() + crawlTimeoutMs;
+        try {
+            for (CompletableFuture<String> section : sections) {
+                out.accept(section.get(Math.max(0, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Text view generation interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof GitHubRateLimitException rateLimited) {
+                throw rateLimited;
+            }
+            throw new IllegalStateException("Text view generation failed: " + e.getMessage(), e);
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("Text view generation failed: " + e.getMessage(), e);
+        } finally {
+            sections.forEach(section -> section.cancel(true));
+        }
+    }
+
+    private static String repositoryInfo(Map<String, Object> repoInfo) {
+        return "Description: " + repoInfo.get("description") + "\n"
+            + "Default Branch: " + repoInfo.get("default_branch") + "\n\n";
+    }
+
+    private static String recentCommits(List<Map<String, Object>> commits) {
+        StringBuilder sb = new StringBuilder("=== Recent Commits ===\n");
+
+        for (Map<String, Object> commit : commits) {
+            Map<String, Object> commitInfo = (Map<String, Object>) commit.get("commit");
+            String sha = commit.get("sha").toString().substring(0, 7);
+            String message = (String) commitInfo.get("message");
+            sb.append("- ").append(sha).append(": ").append(message.split("\n")[0]).append("\n");
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 파일 트리 (하위 디렉토리는 병렬 조회, 항목 순서 유지)
+     */
+    private CompletableFuture<String> fileTree(String owner, String repo, String path, int depth, String ref, String token) {
+        return listContents(owner, repo, path, ref, token).thenCompose(items -> {
+            String indent = "  ".repeat(depth);
+            List<CompletableFuture<String>> parts = new ArrayList<>();
+
+            for (Map<String, Object> item : items) {
+                String name = (String) item.get("name");
+                String type = (String) item.get("type");
+
+                if (shouldSkipItem(name)) {
+                    continue;
+                }
+
+                parts.add(CompletableFuture.completedFuture(indent + (type.equals("dir") ? "📁 " : "📄 ") + name + "\n"));
+
+                if (type.equals("dir") && depth < MAX_TREE_DEPTH) {
+                    String newPath = path.isEmpty() ? name : path + "/" + name;
+                    parts.add(fileTree(owner, repo, newPath, depth + 1, ref, token));
+                }
+            }
+            return concat(parts);
+        }).exceptionally(e -> {
+            rethrowIfRateLimited(e);
+            log.warn("Failed to get file tree for path: {}", path, e);
+            return "";
+        });
+    }
+
+    /**
+     * Java 파일 내용 (하위 디렉토리와 파일을 병렬 조회, 항목 순서 유지)
+     */
+    private CompletableFuture<String> javaFiles(String owner, String repo, String path, String ref, String token) {
+        return listContents(owner, repo, path, ref, token).thenCompose(items -> {
+            List<CompletableFuture<String>> parts = new ArrayList<>();
+
+            for (Map<String, Object> item : items) {
+                String name = (String) item.get("name");
+                String type = (String) item.get("type");
+                String itemPath = (String) item.get("path");
+
+                if (type.equals("dir")) {
+                    parts.add(javaFiles(owner, repo, itemPath, ref, token));
+                } else if (name.endsWith(".java")) {
+                    parts.add(fileContent(owner, repo, itemPath, ref, token));
+                }
+            }
+            return concat(parts);
+        }).exceptionally(e -> {
+            rethrowIfRateLimited(e);
+            log.warn("Failed to append Java files from path: {}", path, e);
+            return "";
+        });
+    }
+
+    private CompletableFuture<String> configFiles(String owner, String repo, String ref, String token) {
+        List<CompletableFuture<String>> parts = new ArrayList<>();
+        for (String path : CONFIG_FILES) {
+            parts.add(fileContent(owner, repo, path, ref, token));
+        }
+        return concat(parts);
+    }
+
+    private CompletableFuture<String> htmlFiles(String owner, String repo, String path, String ref, String token) {
+        return listContents(owner, repo, path, ref, token).thenCompose(items -> {
+            List<CompletableFuture<String>> parts = new ArrayList<>();
+
+            for (Map<String, Object> item : items) {
+                String name = (String) item.get("name");
+                String type = (String) item.get("type");
+                String itemPath = (String) item.get("path");
+
+                if (type.equals("file") && name.endsWith(".html")) {
+                    parts.add(fileContent(owner, repo, itemPath, ref, token));
+                }
+            }
+            return concat(parts);
+        }).exceptionally(e -> {
+            rethrowIfRateLimited(e);
+            log.warn("Failed to append HTML files from path: {}", path, e);
+            return "";
+        });
+    }
+
+    /**
+     * 파일 내용 (조회 실패 시 제목만)
+     */
+    private CompletableFuture<String> fileContent(String owner, String repo, String path, String ref, String token) {
+        return async(() -> {
+            Map<String, Object> fileData = gitHubApiService.getFileContent(owner, repo, path, ref, token);
+            return gitHubApiService.decodeContent((String) fileData.get("content"));
+        }).handle((content, e) -> {
+            if (e != null) {
+                rethrowIfRateLimited(e);
+                log.debug("File not found or error reading: {}", path);
+                return fileBlock(path, null);
+            }
+            return fileBlock(path, content);
+        });
+    }
+
+    private CompletableFuture<List<Map<String, Object>>> listContents(String owner, String repo, String path, String ref, String token) {
+        return async(() -> gitHubApiService.getContents(owner, repo, path, ref, token));
+    }
+
+    private <T> CompletableFuture<T> async(Supplier<T> call) {
+        return CompletableFuture.supplyAsync(rateLimitGovernor.bulk(call), githubCrawlExecutor);
+    }
+
+    private static void rethrowIfRateLimited(Throwable e) {
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        if (cause instanceof GitHubRateLimitException) {
+            throw e instanceof CompletionException completion ? completion : new CompletionException(cause);
+        }
+    }
+
+    /**
+     * 조각 future들을 목록 순서대로 이어 붙임
+     */
+    private static CompletableFuture<String> concat(List<CompletableFuture<String>> parts) {
+        return CompletableFuture.allOf(parts.toArray(CompletableFuture[]::new))
+            .thenApply(ignored -> parts.stream().map(CompletableFuture::join).collect(Collectors.joining()));
+    }
+
+    /**
+     * 제외할 항목 판단
+     */
+    private static boolean shouldSkipItem(String name) {
+        return name.equals("target") ||
+               name.equals(".git") ||
+               name.equals("node_modules");
+    }
+
+    /**
+     * 출력 순서(고정 텍스트와 파일 목록)대로 조각 전달
+     * - 다음 차례 파일이 도착하면 바로 전달, 차례가 아닌 파일만 버퍼에 보관
+     * - finish 시 도착하지 않은 파일은 제목만 전달
+     */
+    private static final class OrderedFileWriter {
+
+        private final Consumer<String> out;
+        private final List<String[]> slots = new ArrayList<>(); // {텍스트, null} 또는 {null, 파일 경로}
+        private final Set<String> wanted = new HashSet<>();
+        private final Map<String, String> pending = new HashMap<>();
+        private int cursor;
+
+        private OrderedFileWriter(Consumer<String> out) {
+            this.out = out;
+        }
+
+        void text(String text) {
+            slots.add(new String[] {text, null});
+        }
+
+        void file(String path) {
+            slots.add(new String[] {null, path});
+            wanted.add(path);
+        }
+
+        boolean isWanted(String path) {
+            return wanted.contains(path);
+        }
+
+        void accept(String path, String content) {
+            pending.put(path, content);
+            drain(false);
+        }
+
+        void finish() {
+            drain(true);
+        }
+
+        private void drain(boolean finishing) {
+            while (cursor < slots.size()) {
+                String[] slot = slots.get(cursor);
+                if (slot[0] != null) {
+                    out.accept(slot[0]);
+                } else if (pending.containsKey(slot[1]) || finishing) {
+                    out.accept(fileBlock(slot[1], pending.remove(slot[1])));
+                } else {
+                    return;
+                }
+                cursor++;
+            }
+        }
+    }
+}
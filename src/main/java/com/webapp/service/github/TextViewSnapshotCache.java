@@ -0,0 +1,221 @@
+package com.webapp.service.github;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 저장소 텍스트 뷰 스냅샷 캐시 (커밋 SHA 기준, gzip 압축 보관)
+ * - 같은 커밋의 텍스트 뷰는 바뀌지 않으므로 만료 없이 보관 (메모리 LRU max-entries개, 디스크는 최근 disk.max-files개)
+ * - 같은 키를 동시에 요청하면 생성은 한 번만 하고 나머지는 결과를 기다림 (begin/complete/fail)
+ * - 지표: github.text_view_cache{result=memory|disk|generated}
+ */
+@Slf4j
+@Component
+public class TextViewSnapshotCache {
+
+    // 접근 순서 LinkedHashMap (this로 동기화)
+    private final LinkedHashMap<String, byte[]> memory = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<String, CompletableFuture<byte[]>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter memoryHits;
+    private final Counter diskHits;
+    private final Counter generated;
+
+    @Value("${github.text-view.cache.max-entries:4}")
+    private int maxEntries;
+
+    @Value("${github.text-view.cache.generation-timeout-ms:120000}")
+    private long generationTimeoutMs;
+
+    @Value("${github.text-view.cache.disk.enabled:false}")
+    private boolean diskEnabled;
+
+    @Value("${github.text-view.cache.disk.directory:${java.io.tmpdir}/github-text-view-cache}")
+    private String diskDirectory;
+
+    @Value("${github.text-view.cache.disk.max-files:20}")
+    private int diskMaxFiles;
+
+    private Path diskPath;
+
+    public TextViewSnapshotCache(MeterRegistry meterRegistry) {
+        this.memoryHits = meterRegistry.counter("github.text_view_cache", "result", "memory");
+        this.diskHits = meterRegistry.counter("github.text_view_cache", "result", "disk");
+        this.generated = meterRegistry.counter("github.text_view_cache", "result", "generated");
+    }
+
+    @PostConstruct
+    public void init() {
+        if (!diskEnabled) {
+            return;
+        }
+        try {
+            diskPath = Files.createDirectories(Paths.get(diskDirectory));
+            log.info("GitHub 텍스트 뷰 디스크 캐시 사용: {}", diskPath);
+        } catch (IOException e) {
+            log.warn("GitHub 텍스트 뷰 디스크 캐시 디렉토리 생성 실패 - 메모리 캐시만 사용: {}", diskDirectory, e);
+        }
+    }
+
+    /**
+     * 캐시된 gzip 텍스트 뷰 (메모리 → 디스크 순)
+     *
+     * @param key 저장소와 커밋 SHA로 만든 키 (파일명으로도 사용)
+     */
+    public Optional<byte[]> get(String key) {
+        byte[] cached = getMemory(key);
+        if (cached != null) {
+            memoryHits.increment();
+            return Optional.of(cached);
+        }
+        cached = readDisk(key);
+        if (cached != null) {
+            diskHits.increment();
+            putMemory(key, cached);
+        }
+        return Optional.ofNullable(cached);
+    }
+
+    /**
+     * 생성 시작 등록
+     * - 다른 요청이 이미 생성 중이면 그 결과 future (호출 측은 기다렸다가 사용)
+     * - 아니면 null: 호출 측이 생성을 맡고 complete 또는 fail을 반드시 호출
+     */
+    public CompletableFuture<byte[]> begin(String key) {
+        CompletableFuture<byte[]> mine = new CompletableFuture<>();
+        CompletableFuture<byte[]> running = inFlight.putIfAbsent(key, mine);
+        if (running == null) {
+            // 생성 측이 complete/fail 없이 사라져도 기다리는 요청과 이후 요청이 막히지 않도록 제한 시간 후 해제
+            mine.orTimeout(generationTimeoutMs, TimeUnit.MILLISECONDS)
+                .whenComplete((result, error) -> inFlight.remove(key, mine));
+        }
+        return running;
+    }
+
+    public void complete(String key, byte[] compressed) {
+        generated.increment();
+        putMemory(key, compressed);
+        writeDisk(key, compressed);
+        CompletableFuture<byte[]> running = inFlight.remove(key);
+        if (running != null) {
+            running.complete(compressed);
+        }
+    }
+
+    public void fail(String key, Throwable cause) {
+        CompletableFuture<byte[]> running = inFlight.remove(key);
+        if (running != null) {
+            running.completeExceptionally(cause);
+        }
+    }
+
+    public static byte[] gzip(String text) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(text.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    public static byte[] gunzip(byte[] compressed) {
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return gzip.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private synchronized byte[] getMemory(String key) {
+        return memory.get(key);
+    }
+
+    private synchronized void putMemory(String key, byte[] compressed) {
+        memory.put(key, compressed);
+        Iterator<byte[]> eldest = memory.values().iterator();
+        while (memory.size() > maxEntries && eldest.hasNext()) {
+            eldest.next();
+            eldest.remove();
+        }
+    }
+
+    private byte[] readDisk(String key) {
+        if (diskPath == null) {
+            return null;
+        }
+        Path file = diskPath.resolve(key + ".txt.gz");
+        if (!Files.exists(file)) {
+            return null;
+        }
+        try {
+            byte[] compressed = Files.readAllBytes(file);
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis())); // 최근 사용 순서 유지
+            return compressed;
+        } catch (IOException e) {
+            log.debug("GitHub 텍스트 뷰 디스크 캐시 읽기 실패: {}", file, e);
+            return null;
+        }
+    }
+
+    /**
+     * 디스크에 저장하고 오래된 파일부터 disk.max-files개만 남김
+     */
+    private void writeDisk(String key, byte[] compressed) {
+        if (diskPath == null) {
+            return;
+        }
+        try {
+            Path temp = Files.createTempFile(diskPath, key, ".tmp");
+            Files.write(temp, compressed);
+            Files.move(temp, diskPath.resolve(key + ".txt.gz"), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            List<Path> files;
+            try (Stream<Path> listing = Files.list(diskPath)) {
+                files = listing.filter(file -> file.getFileName().toString().endsWith(".txt.gz"))
+                    .sorted(Comparator.comparing(TextViewSnapshotCache::lastModified).reversed())
+                    .toList();
+            }
+            for (Path old : files.subList(Math.min(diskMaxFiles, files.size()), files.size())) {
+                Files.deleteIfExists(old);
+            }
+        } catch (IOException e) {
+            log.debug("GitHub 텍스트 뷰 디스크 캐시 쓰기 실패: {}", key, e);
+        }
+    }
+
+    private static long lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+}
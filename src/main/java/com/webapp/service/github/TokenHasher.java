@@ -0,0 +1,38 @@
+package com.webapp.service.github;
+
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.HexFormat;
+
+/**
+ * GitHub 토큰 해시 (토큰별 캐시/예산의 키, 지표 태그용)
+ * - HMAC-SHA256, 키는 프로세스 시작 시 임의 생성 (해시만으로 토큰을 대조해 볼 수 없음, 원본 토큰은 보관하지 않음)
+ */
+@Component
+public class TokenHasher {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    private final SecretKeySpec hashKey;
+
+    public TokenHasher() {
+        byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        this.hashKey = new SecretKeySpec(key, HMAC_ALGORITHM);
+    }
+
+    public String hash(String token) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(hashKey);
+            return HexFormat.of().formatHex(mac.doFinal(String.valueOf(token).getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("토큰 해시 생성 실패", e);
+        }
+    }
+}
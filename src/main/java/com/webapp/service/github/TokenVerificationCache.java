@@ -0,0 +1,81 @@
+package com.webapp.service.github;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * GitHub 토큰 검증 결과 캐시
+ * - 키: 토큰의 HMAC-SHA256 (TokenHasher, 원본 토큰은 메모리에 보관하지 않음)
+ * - 유효한 토큰은 ttl-ms, 무효한 토큰(401)은 negative-ttl-ms 동안 재검증 없이 결과 재사용
+ * - 항목 수 상한 초과 시 만료 항목 정리 후에도 넘치면 저장하지 않음 (검증은 계속 upstream으로)
+ * - 지표: github.token_cache{result=hit|miss}
+ */
+@Component
+public class TokenVerificationCache {
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final TokenHasher tokenHasher;
+    private final Counter hits;
+    private final Counter misses;
+
+    @Value("${github.token-cache.ttl-ms:60000}")
+    private long ttlMs;
+
+    @Value("${github.token-cache.negative-ttl-ms:30000}")
+    private long negativeTtlMs;
+
+    @Value("${github.token-cache.max-entries:1000}")
+    private int maxEntries;
+
+    public TokenVerificationCache(MeterRegistry meterRegistry, TokenHasher tokenHasher) {
+        this.tokenHasher = tokenHasher;
+        this.hits = meterRegistry.counter("github.token_cache", "result", "hit");
+        this.misses = meterRegistry.counter("github.token_cache", "result", "miss");
+        meterRegistry.gaugeMapSize("github.token_cache.size", Tags.empty(), entries);
+    }
+
+    /**
+     * 캐시된 검증 결과 (없거나 만료되면 empty)
+     */
+    public Optional<Boolean> get(String token) {
+        Entry entry = entries.get(hash(token));
+        if (entry == null || entry.expiresAt() < System.currentTimeMillis()) {
+            misses.increment();
+            return Optional.empty();
+        }
+        hits.increment();
+        return Optional.of(entry.valid());
+    }
+
+    public void put(String token, boolean valid) {
+        if (entries.size() >= maxEntries) {
+            evictExpired();
+            if (entries.size() >= maxEntries) {
+                return;
+            }
+        }
+        long expiresAt = System.currentTimeMillis() + (valid ? ttlMs : negativeTtlMs);
+        entries.put(hash(token), new Entry(valid, expiresAt));
+    }
+
+    @Scheduled(fixedDelayString = "${github.token-cache.eviction-interval-ms:60000}")
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        entries.values().removeIf(entry -> entry.expiresAt() < now);
+    }
+
+    private String hash(String token) {
+        return tokenHasher.hash(token);
+    }
+
+    private record Entry(boolean valid, long expiresAt) {
+    }
+}
@@ -0,0 +1,119 @@
+package com.webapp.service.review;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 규칙 기반 코드 리뷰 엔진
+ * - 입력을 언어별 규칙으로 한 번만 토큰화하고, 같은 토큰 스트림을 모든 규칙에 전달
+ * - 규칙은 Spring 빈 + ServiceLoader 플러그인에서 수집 (ID 기준 중복 제거, 빈 우선)
+ * - 규칙별 소요 시간을 code_review.rule 타이머로 기록 (토큰 묶음 단위로 측정하여 오버헤드 최소화)
+ */
+@Slf4j
+@Service
+public class CodeReviewEngine {
+
+    private static final int BATCH_SIZE = 512;
+    private static final int MAX_SCORE = 100;
+
+    private final List<CodeReviewRule> rules;
+    private final MeterRegistry meterRegistry;
+
+    public CodeReviewEngine(List<CodeReviewRule> ruleBeans, MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+
+        Map<String, CodeReviewRule> byId = new LinkedHashMap<>();
+        for (CodeReviewRule rule : ruleBeans) {
+            byId.putIfAbsent(rule.id(), rule);
+        }
+        for (CodeReviewRule plugin : ServiceLoader.load(CodeReviewRule.class)) {
+            if (byId.putIfAbsent(plugin.id(), plugin) == null) {
+                log.info("코드 리뷰 규칙 플러그인 로딩: {} ({})", plugin.id(), plugin.getClass().getName());
+            }
+        }
+        this.rules = List.copyOf(byId.values());
+        log.info("코드 리뷰 규칙 {}개 등록: {}", rules.size(), byId.keySet());
+    }
+
+    public ReviewReport review(String code, String languageName) {
+        Language language = Language.from(languageName);
+
+        List<CodeReviewRule> activeRules = new ArrayList<>();
+        List<TokenVisitor> visitors = new ArrayList<>();
+        for (CodeReviewRule rule : rules) {
+            if (rule.supports(language)) {
+                activeRules.add(rule);
+                visitors.add(rule.createVisitor(language));
+            }
+        }
+
+        TokenBatcher batcher = new TokenBatcher(visitors);
+        CodeTokenizer.tokenize(code, language, batcher);
+        batcher.flush();
+
+        ReviewContext context = new ReviewContext(language, batcher.lastLine + 1);
+        for (int i = 0; i < visitors.size(); i++) {
+            context.setCurrentRuleId(activeRules.get(i).id());
+            long start = System.nanoTime();
+            visitors.get(i).finish(context);
+            batcher.nanos[i] += System.nanoTime() - start;
+
+            meterRegistry.timer("code_review.rule", "rule", activeRules.get(i).id(), "language", language.name())
+                .record(batcher.nanos[i], TimeUnit.NANOSECONDS);
+        }
+
+        int penalty = 0;
+        for (ReviewIssue issue : context.getIssues()) {
+            penalty += issue.penalty();
+        }
+        return new ReviewReport(language, context.getLines(), Math.max(0, MAX_SCORE - penalty),
+            List.copyOf(context.getIssues()));
+    }
+
+    /**
+     * 토큰을 묶음으로 모아 규칙마다 한 번에 전달 (규칙별 시간 측정을 묶음 단위로 수행)
+     */
+    private static final class TokenBatcher implements Consumer<Token> {
+
+        private final List<TokenVisitor> visitors;
+        private final long[] nanos;
+        private final Token[] batch = new Token[BATCH_SIZE];
+        private int size;
+        private int lastLine = -1;
+
+        private TokenBatcher(List<TokenVisitor> visitors) {
+            this.visitors = visitors;
+            this.nanos = new long[visitors.size()];
+        }
+
+        @Override
+        public void accept(Token token) {
+            batch[size++] = token;
+            lastLine = token.endLine();
+            if (size == BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        private void flush() {
+            for (int v = 0; v < visitors.size(); v++) {
+                TokenVisitor visitor = visitors.get(v);
+                long start = System.nanoTime();
+                for (int i = 0; i < size; i++) {
+                    visitor.visit(batch[i]);
+                }
+                nanos[v] += System.nanoTime() - start;
+            }
+            size = 0;
+        }
+    }
+}
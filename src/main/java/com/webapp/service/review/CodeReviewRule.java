@@ -0,0 +1,24 @@
+package com.webapp.service.review;
+
+/**
+ * 코드 리뷰 규칙 (플러그인 확장 지점)
+ * - Spring 빈으로 등록하거나, 외부 jar의 META-INF/services/com.webapp.service.review.CodeReviewRule 에
+ *   구현 클래스를 적으면 CodeReviewEngine이 자동으로 로딩
+ * - 모든 규칙은 토큰화 1회로 만든 같은 토큰 스트림을 공유
+ */
+public interface CodeReviewRule {
+
+    /**
+     * 규칙 ID (지표 태그 및 중복 제거 기준)
+     */
+    String id();
+
+    /**
+     * 해당 언어에 적용할지 여부
+     */
+    default boolean supports(Language language) {
+        return true;
+    }
+
+    TokenVisitor createVisitor(Language language);
+}
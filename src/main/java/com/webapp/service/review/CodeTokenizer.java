@@ -0,0 +1,158 @@
+package com.webapp.service.review;
+
+import java.util.function.Consumer;
+
+/**
+ * 언어별 규칙에 따른 단일 패스 토크나이저
+ * - 토큰을 리스트로 모으지 않고 생성 즉시 sink로 전달
+ * - 공백과 줄바꿈은 토큰으로 만들지 않고 Token의 line/indent/firstOnLine으로 전달
+ */
+public final class CodeTokenizer {
+
+    // 긴 연산자부터 검사 (maximal munch)
+    private static final String[] MULTI_CHAR_OPERATORS = {
+        "===", "!==", ">>>", "**=", "//=", "...",
+        "==", "!=", "<=", ">=", "&&", "||", "++", "--", "+=", "-=", "*=", "/=", "%=",
+        "->", "=>", "::", "<<", ">>", "**", "//", "?.", "??"
+    };
+
+    private CodeTokenizer() {
+    }
+
+    public static void tokenize(String source, Language language, Consumer<Token> sink) {
+        int n = source.length();
+        int line = 0;
+        int indent = 0;
+        boolean atLineStart = true;
+        boolean firstOnLine = true;
+
+        int i = 0;
+        while (i < n) {
+            char c = source.charAt(i);
+
+            if (c == '\n') {
+                line++;
+                indent = 0;
+                atLineStart = true;
+                firstOnLine = true;
+                i++;
+                continue;
+            }
+            if (Character.isWhitespace(c)) {
+                if (atLineStart) {
+                    indent++;
+                }
+                i++;
+                continue;
+            }
+            boolean lineStart = atLineStart;
+            atLineStart = false;
+
+            int start = i;
+            int startLine = line;
+            TokenType type;
+            char next = i + 1 < n ? source.charAt(i + 1) : 0;
+
+            if (c == '#' && (language.hasHashComments() || lineStart)) {
+                i = skipToLineEnd(source, i);
+                type = TokenType.COMMENT;
+            } else if (c == '/' && next == '/' && language.hasSlashComments()) {
+                i = skipToLineEnd(source, i);
+                type = TokenType.COMMENT;
+            } else if (c == '/' && next == '*' && language.hasBlockComments()) {
+                int close = source.indexOf("*/", i + 2);
+                i = close < 0 ? n : close + 2;
+                line += countNewlines(source, start, i);
+                type = TokenType.COMMENT;
+            } else if (c == '"' || c == '\'' || (c == '`' && language.hasBacktickStrings())) {
+                i = skipString(source, i, language);
+                line += countNewlines(source, start, i);
+                type = TokenType.STRING;
+            } else if (Character.isDigit(c)) {
+                i++;
+                while (i < n && (Character.isLetterOrDigit(source.charAt(i)) || source.charAt(i) == '_'
+                        || source.charAt(i) == '.')) {
+                    i++;
+                }
+                type = TokenType.NUMBER;
+            } else if (Character.isLetter(c) || c == '_' || c == '$') {
+                i++;
+                while (i < n && (Character.isLetterOrDigit(source.charAt(i)) || source.charAt(i) == '_'
+                        || source.charAt(i) == '$')) {
+                    i++;
+                }
+                type = language.isKeyword(source.substring(start, i)) ? TokenType.KEYWORD : TokenType.IDENTIFIER;
+            } else if (c == '(' || c == '[' || c == '{') {
+                i++;
+                type = TokenType.OPEN;
+            } else if (c == ')' || c == ']' || c == '}') {
+                i++;
+                type = TokenType.CLOSE;
+            } else {
+                i += operatorLength(source, i);
+                type = TokenType.OPERATOR;
+            }
+
+            sink.accept(new Token(type, source, start, i, startLine, line, indent, firstOnLine));
+            firstOnLine = false;
+        }
+    }
+
+    private static int skipToLineEnd(String source, int from) {
+        int end = source.indexOf('\n', from);
+        return end < 0 ? source.length() : end;
+    }
+
+    /**
+     * 문자열 리터럴 끝 위치 (따옴표 포함)
+     * - 삼중 따옴표/백틱은 여러 줄, 나머지는 줄바꿈에서 끝난 것으로 처리
+     */
+    private static int skipString(String source, int from, Language language) {
+        int n = source.length();
+        char quote = source.charAt(from);
+        boolean triple = language.hasTripleQuotes() && quote != '`' && from + 2 < n
+            && source.charAt(from + 1) == quote && source.charAt(from + 2) == quote;
+        boolean multiline = triple || quote == '`';
+
+        int i = from + (triple ? 3 : 1);
+        while (i < n) {
+            char c = source.charAt(i);
+            if (c == '\\') {
+                i += 2;
+                continue;
+            }
+            if (c == '\n' && !multiline) {
+                return i;
+            }
+            if (c == quote) {
+                if (!triple) {
+                    return i + 1;
+                }
+                if (i + 2 < n && source.charAt(i + 1) == quote && source.charAt(i + 2) == quote) {
+                    return i + 3;
+                }
+            }
+            i++;
+        }
+        return n;
+    }
+
+    private static int operatorLength(String source, int from) {
+        for (String operator : MULTI_CHAR_OPERATORS) {
+            if (source.startsWith(operator, from)) {
+                return operator.length();
+            }
+        }
+        return 1;
+    }
+
+    private static int countNewlines(String source, int from, int to) {
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            if (source.charAt(i) == '\n') {
+                count++;
+            }
+        }
+        return count;
+    }
+}
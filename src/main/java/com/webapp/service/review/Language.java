@@ -0,0 +1,94 @@
+package com.webapp.service.review;
+
+import java.util.Set;
+
+/**
+ * 리뷰 대상 언어와 토큰화 규칙
+ * - JAVA, PYTHON, JAVASCRIPT 외의 언어는 C 계열 공통 규칙(GENERIC)으로 토큰화
+ */
+public enum Language {
+
+    JAVA(true, true, false, true, false,
+        Set.of("abstract", "assert", "boolean", "break", "byte", "case", "catch", "char", "class", "const",
+            "continue", "default", "do", "double", "else", "enum", "extends", "final", "finally", "float",
+            "for", "goto", "if", "implements", "import", "instanceof", "int", "interface", "long", "native",
+            "new", "package", "private", "protected", "public", "return", "short", "static", "strictfp",
+            "super", "switch", "synchronized", "this", "throw", "throws", "transient", "try", "void",
+            "volatile", "while", "var", "record", "yield", "true", "false", "null")),
+
+    PYTHON(false, false, true, true, false,
+        Set.of("False", "None", "True", "and", "as", "assert", "async", "await", "break", "class",
+            "continue", "def", "del", "elif", "else", "except", "finally", "for", "from", "global", "if",
+            "import", "in", "is", "lambda", "nonlocal", "not", "or", "pass", "raise", "return", "try",
+            "while", "with", "yield")),
+
+    JAVASCRIPT(true, true, false, false, true,
+        Set.of("async", "await", "break", "case", "catch", "class", "const", "continue", "debugger",
+            "default", "delete", "do", "else", "export", "extends", "finally", "for", "function", "if",
+            "import", "in", "instanceof", "let", "new", "return", "super", "switch", "this", "throw", "try",
+            "typeof", "var", "void", "while", "with", "yield", "true", "false", "null", "undefined")),
+
+    GENERIC(true, true, false, false, true, Set.of());
+
+    private final boolean slashComments;
+    private final boolean blockComments;
+    private final boolean hashComments;
+    private final boolean tripleQuotes;
+    private final boolean backtickStrings;
+    private final Set<String> keywords;
+
+    Language(boolean slashComments, boolean blockComments, boolean hashComments,
+             boolean tripleQuotes, boolean backtickStrings, Set<String> keywords) {
+        this.slashComments = slashComments;
+        this.blockComments = blockComments;
+        this.hashComments = hashComments;
+        this.tripleQuotes = tripleQuotes;
+        this.backtickStrings = backtickStrings;
+        this.keywords = keywords;
+    }
+
+    /**
+     * 요청의 language 값 → Language (알 수 없으면 GENERIC)
+     */
+    public static Language from(String language) {
+        if (language == null) {
+            return GENERIC;
+        }
+        return switch (language.trim().toLowerCase()) {
+            case "java" -> JAVA;
+            case "python", "py" -> PYTHON;
+            case "javascript", "js", "typescript", "ts" -> JAVASCRIPT;
+            default -> GENERIC;
+        };
+    }
+
+    /**
+     * // 한 줄 주석 사용 여부 (Python에서는 정수 나눗셈 연산자)
+     */
+    public boolean hasSlashComments() {
+        return slashComments;
+    }
+
+    public boolean hasBlockComments() {
+        return blockComments;
+    }
+
+    /**
+     * # 주석을 줄 어디서나 허용하는지 여부 (false면 줄 첫 문자일 때만 주석)
+     */
+    public boolean hasHashComments() {
+        return hashComments;
+    }
+
+    public boolean hasTripleQuotes() {
+        return tripleQuotes;
+    }
+
+    public boolean hasBacktickStrings() {
+        return backtickStrings;
+    }
+
+    public boolean isKeyword(String word) {
+        return keywords.contains(word);
+    }
+}
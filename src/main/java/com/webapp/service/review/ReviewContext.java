@@ -0,0 +1,43 @@
+package com.webapp.service.review;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 리뷰 1회의 공통 정보와 이슈 수집
+ */
+public class ReviewContext {
+
+    private final Language language;
+    private final int lines;
+    private final List<ReviewIssue> issues = new ArrayList<>();
+    private String currentRuleId;
+
+    ReviewContext(Language language, int lines) {
+        this.language = language;
+        this.lines = lines;
+    }
+
+    public Language getLanguage() {
+        return language;
+    }
+
+    /**
+     * 줄 수 (끝의 빈 줄 제외)
+     */
+    public int getLines() {
+        return lines;
+    }
+
+    public void report(Severity severity, String message, int penalty) {
+        issues.add(new ReviewIssue(currentRuleId, severity, message, penalty));
+    }
+
+    void setCurrentRuleId(String ruleId) {
+        this.currentRuleId = ruleId;
+    }
+
+    List<ReviewIssue> getIssues() {
+        return issues;
+    }
+}
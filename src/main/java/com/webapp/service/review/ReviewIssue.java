@@ -0,0 +1,10 @@
+package com.webapp.service.review;
+
+/**
+ * 규칙이 발견한 문제
+ *
+ * @param ruleId  이슈를 보고한 규칙 ID
+ * @param penalty 품질 점수 감점
+ */
+public record ReviewIssue(String ruleId, Severity severity, String message, int penalty) {
+}
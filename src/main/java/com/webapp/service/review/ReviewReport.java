@@ -0,0 +1,11 @@
+package com.webapp.service.review;
+
+import java.util.List;
+
+/**
+ * 코드 리뷰 결과
+ *
+ * @param score 100점에서 이슈 감점을 뺀 점수 (0 이상)
+ */
+public record ReviewReport(Language language, int lines, int score, List<ReviewIssue> issues) {
+}
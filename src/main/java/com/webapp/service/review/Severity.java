@@ -0,0 +1,20 @@
+package com.webapp.service.review;
+
+/**
+ * 리뷰 이슈 심각도
+ */
+public enum Severity {
+    HIGH("high"),
+    MEDIUM("medium"),
+    LOW("low");
+
+    private final String code;
+
+    Severity(String code) {
+        this.code = code;
+    }
+
+    public String getCode() {
+        return code;
+    }
+}
@@ -0,0 +1,36 @@
+package com.webapp.service.review;
+
+/**
+ * 코드 토큰
+ * - 원본 문자열의 [start, end) 범위를 가리키며 text()를 호출할 때만 문자열을 생성
+ *
+ * @param line        토큰이 시작하는 줄 번호 (0부터)
+ * @param endLine     토큰이 끝나는 줄 번호 (여러 줄 주석/문자열이면 line보다 큼)
+ * @param indent      토큰이 속한 줄의 선행 공백 수
+ * @param firstOnLine 줄의 첫 번째 토큰 여부
+ */
+public record Token(TokenType type, String source, int start, int end, int line, int endLine, int indent, boolean firstOnLine) {
+
+    public String text() {
+        return source.substring(start, end);
+    }
+
+    public int length() {
+        return end - start;
+    }
+
+    public char charAt(int index) {
+        return source.charAt(start + index);
+    }
+
+    /**
+     * 토큰 텍스트가 value와 같은지 (문자열 생성 없이 비교)
+     */
+    public boolean is(String value) {
+        return end - start == value.length() && source.startsWith(value, start);
+    }
+
+    public boolean is(TokenType type, String value) {
+        return this.type == type && is(value);
+    }
+}
@@ -0,0 +1,15 @@
+package com.webapp.service.review;
+
+/**
+ * 코드 토큰 종류
+ */
+public enum TokenType {
+    IDENTIFIER,
+    KEYWORD,
+    NUMBER,
+    STRING,
+    COMMENT,
+    OPEN,
+    CLOSE,
+    OPERATOR
+}
@@ -0,0 +1,18 @@
+package com.webapp.service.review;
+
+/**
+ * 리뷰 1회 동안 토큰 스트림을 받는 규칙 상태
+ * - 규칙 빈은 공유되므로 리뷰마다 CodeReviewRule.createVisitor로 새로 생성
+ */
+public interface TokenVisitor {
+
+    /**
+     * 토큰을 등장 순서대로 하나씩 전달받음
+     */
+    void visit(Token token);
+
+    /**
+     * 모든 토큰을 본 뒤 호출, 발견한 이슈를 context에 보고
+     */
+    void finish(ReviewContext context);
+}
@@ -0,0 +1,44 @@
+package com.webapp.service.review.rule;
+
+import com.webapp.service.review.CodeReviewRule;
+import com.webapp.service.review.Language;
+import com.webapp.service.review.ReviewContext;
+import com.webapp.service.review.Severity;
+import com.webapp.service.review.Token;
+import com.webapp.service.review.TokenType;
+import com.webapp.service.review.TokenVisitor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 주석 비율 검사 (주석 줄이 10% 미만)
+ * - 여러 줄 블록 주석은 덮고 있는 줄 수만큼 계산
+ */
+@Component
+public class CommentDensityRule implements CodeReviewRule {
+
+    @Override
+    public String id() {
+        return "comment-density";
+    }
+
+    @Override
+    public TokenVisitor createVisitor(Language language) {
+        return new TokenVisitor() {
+            private int commentLines;
+
+            @Override
+            public void visit(Token token) {
+                if (token.type() == TokenType.COMMENT) {
+                    commentLines += token.endLine() - token.line() + (token.firstOnLine() ? 1 : 0);
+                }
+            }
+
+            @Override
+            public void finish(ReviewContext context) {
+                if (commentLines < context.getLines() * 0.1) {
+                    context.report(Severity.LOW, "주석이 부족합니다. 복잡한 로직에는 설명을 추가하세요.", 5);
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,85 @@
+package com.webapp.service.review.rule;
+
+import com.webapp.service.review.CodeReviewRule;
+import com.webapp.service.review.Language;
+import com.webapp.service.review.ReviewContext;
+import com.webapp.service.review.Severity;
+import com.webapp.service.review.Token;
+import com.webapp.service.review.TokenType;
+import com.webapp.service.review.TokenVisitor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 빈 catch 블록 검사 (Java, JavaScript)
+ * - catch (e) { } / catch { } 형태, 블록 안에 주석이 있으면 의도된 것으로 보고 제외
+ * - JavaScript의 promise.catch(fn) 호출은 뒤에 { 가 오지 않으므로 제외됨
+ */
+@Component
+public class EmptyCatchBlockRule implements CodeReviewRule {
+
+    private static final int IDLE = 0;
+    private static final int AFTER_CATCH = 1;
+    private static final int IN_PARAMETERS = 2;
+    private static final int AFTER_PARAMETERS = 3;
+    private static final int BLOCK_OPENED = 4;
+
+    @Override
+    public String id() {
+        return "empty-catch";
+    }
+
+    @Override
+    public boolean supports(Language language) {
+        return language == Language.JAVA || language == Language.JAVASCRIPT;
+    }
+
+    @Override
+    public TokenVisitor createVisitor(Language language) {
+        return new TokenVisitor() {
+            private int state = IDLE;
+            private int parameterDepth;
+            private int emptyBlocks;
+
+            @Override
+            public void visit(Token token) {
+                switch (state) {
+                    case AFTER_CATCH -> {
+                        if (token.is(TokenType.OPEN, "(")) {
+                            state = IN_PARAMETERS;
+                            parameterDepth = 1;
+                        } else {
+                            state = token.is(TokenType.OPEN, "{") ? BLOCK_OPENED : IDLE;
+                        }
+                    }
+                    case IN_PARAMETERS -> {
+                        if (token.type() == TokenType.OPEN) {
+                            parameterDepth++;
+                        } else if (token.type() == TokenType.CLOSE && --parameterDepth == 0) {
+                            state = AFTER_PARAMETERS;
+                        }
+                    }
+                    case AFTER_PARAMETERS -> state = token.is(TokenType.OPEN, "{") ? BLOCK_OPENED : IDLE;
+                    case BLOCK_OPENED -> {
+                        if (token.is(TokenType.CLOSE, "}")) {
+                            emptyBlocks++;
+                        }
+                        state = IDLE;
+                    }
+                    default -> {
+                    }
+                }
+                if (state == IDLE && token.is(TokenType.KEYWORD, "catch")) {
+                    state = AFTER_CATCH;
+                }
+            }
+
+            @Override
+            public void finish(ReviewContext context) {
+                if (emptyBlocks > 0) {
+                    context.report(Severity.MEDIUM, String.format(
+                        "빈 catch 블록이 %d개 있습니다. 예외를 무시하지 말고 로깅하거나 처리하세요.", emptyBlocks), 10);
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,66 @@
+package com.webapp.service.review.rule;
+
+import com.webapp.service.review.CodeReviewRule;
+import com.webapp.service.review.Language;
+import com.webapp.service.review.ReviewContext;
+import com.webapp.service.review.Severity;
+import com.webapp.service.review.Token;
+import com.webapp.service.review.TokenType;
+import com.webapp.service.review.TokenVisitor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 에러 처리 존재 여부 검사 (20줄 초과 코드에 에러 처리가 전혀 없음)
+ * - Java/JavaScript: try, catch
+ * - Python: try, except
+ * - 그 외: try/catch/except/rescue 또는 err/error가 들어간 식별자 (Go의 if err != nil 등)
+ */
+@Component
+public class ErrorHandlingRule implements CodeReviewRule {
+
+    private static final int MIN_LINES = 20;
+
+    @Override
+    public String id() {
+        return "error-handling";
+    }
+
+    @Override
+    public TokenVisitor createVisitor(Language language) {
+        return new TokenVisitor() {
+            private boolean found;
+
+            @Override
+            public void visit(Token token) {
+                if (!found && (token.type() == TokenType.KEYWORD || token.type() == TokenType.IDENTIFIER)) {
+                    found = isErrorHandling(language, token);
+                }
+            }
+
+            @Override
+            public void finish(ReviewContext context) {
+                if (!found && context.getLines() > MIN_LINES) {
+                    context.report(Severity.HIGH, "에러 처리가 없습니다. try-catch 또는 에러 검사를 추가하세요.", 15);
+                }
+            }
+        };
+    }
+
+    private static boolean isErrorHandling(Language language, Token token) {
+        return switch (language) {
+            case JAVA, JAVASCRIPT -> token.is("try") || token.is("catch");
+            case PYTHON -> token.is("try") || token.is("except");
+            default -> token.is("try") || token.is("catch") || token.is("except") || token.is("rescue")
+                || token.is("err") || containsIgnoreCase(token, "error");
+        };
+    }
+
+    private static boolean containsIgnoreCase(Token token, String value) {
+        for (int i = token.start(); i + value.length() <= token.end(); i++) {
+            if (token.source().regionMatches(true, i, value, 0, value.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
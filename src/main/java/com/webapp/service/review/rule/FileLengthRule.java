@@ -0,0 +1,40 @@
+package com.webapp.service.review.rule;
+
+import com.webapp.service.review.CodeReviewRule;
+import com.webapp.service.review.Language;
+import com.webapp.service.review.ReviewContext;
+import com.webapp.service.review.Severity;
+import com.webapp.service.review.Token;
+import com.webapp.service.review.TokenVisitor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 코드 길이 검사 (100줄 초과)
+ */
+@Component
+public class FileLengthRule implements CodeReviewRule {
+
+    private static final int MAX_LINES = 100;
+
+    @Override
+    public String id() {
+        return "file-length";
+    }
+
+    @Override
+    public TokenVisitor createVisitor(Language language) {
+        return new TokenVisitor() {
+            @Override
+            public void visit(Token token) {
+            }
+
+            @Override
+            public void finish(ReviewContext context) {
+                if (context.getLines() > MAX_LINES) {
+                    context.report(Severity.MEDIUM,
+                        String.format("코드가 %d줄로 너무 깁니다. 함수를 분리하는 것을 권장합니다.", context.getLines()), 10);
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,42 @@
+package com.webapp.service.review.rule;
+
+import com.webapp.service.review.CodeReviewRule;
+import com.webapp.service.review.Language;
+import com.webapp.service.review.ReviewContext;
+import com.webapp.service.review.Severity;
+import com.webapp.service.review.Token;
+import com.webapp.service.review.TokenVisitor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 들여쓰기 검사 (1~3칸 들여쓰기 줄이 30% 초과)
+ */
+@Component
+public class IndentationRule implements CodeReviewRule {
+
+    @Override
+    public String id() {
+        return "indentation";
+    }
+
+    @Override
+    public TokenVisitor createVisitor(Language language) {
+        return new TokenVisitor() {
+            private int shallowIndentLines;
+
+            @Override
+            public void visit(Token token) {
+                if (token.firstOnLine() && token.indent() >= 1 && token.indent() <= 3) {
+                    shallowIndentLines++;
+                }
+            }
+
+            @Override
+            public void finish(ReviewContext context) {
+                if (shallowIndentLines > context.getLines() * 0.3) {
+                    context.report(Severity.LOW, "일관되지 않은 들여쓰기가 발견되었습니다.", 5);
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,62 @@
+package com.webapp.service.review.rule;
+
+import com.webapp.service.review.CodeReviewRule;
+import com.webapp.service.review.Language;
+import com.webapp.service.review.ReviewContext;
+import com.webapp.service.review.Severity;
+import com.webapp.service.review.Token;
+import com.webapp.service.review.TokenType;
+import com.webapp.service.review.TokenVisitor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Java: System.out / System.err / printStackTrace 사용 검사
+ */
+@Component
+public class JavaConsoleOutputRule implements CodeReviewRule {
+
+    @Override
+    public String id() {
+        return "java-console-output";
+    }
+
+    @Override
+    public boolean supports(Language language) {
+        return language == Language.JAVA;
+    }
+
+    @Override
+    public TokenVisitor createVisitor(Language language) {
+        return new TokenVisitor() {
+            // 0: 대기, 1: System 다음, 2: System. 다음
+            private int state;
+            private int usages;
+
+            @Override
+            public void visit(Token token) {
+                if (token.type() == TokenType.COMMENT) {
+                    return;
+                }
+                if (state == 2 && token.type() == TokenType.IDENTIFIER && (token.is("out") || token.is("err"))) {
+                    usages++;
+                    state = 0;
+                } else if (state == 1 && token.is(TokenType.OPERATOR, ".")) {
+                    state = 2;
+                } else {
+                    state = token.is(TokenType.IDENTIFIER, "System") ? 1 : 0;
+                    if (token.is(TokenType.IDENTIFIER, "printStackTrace")) {
+                        usages++;
+                    }
+                }
+            }
+
+            @Override
+            public void finish(ReviewContext context) {
+                if (usages > 0) {
+                    context.report(Severity.LOW, String.format(
+                        "System.out/err 또는 printStackTrace가 %d곳에서 사용되었습니다. 로거(SLF4J 등)를 사용하세요.", usages), 5);
+                }
+            }
+        };
+    }
+}
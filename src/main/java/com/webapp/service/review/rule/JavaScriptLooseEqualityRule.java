@@ -0,0 +1,49 @@
+package com.webapp.service.review.rule;
+
+import com.webapp.service.review.CodeReviewRule;
+import com.webapp.service.review.Language;
+import com.webapp.service.review.ReviewContext;
+import com.webapp.service.review.Severity;
+import com.webapp.service.review.Token;
+import com.webapp.service.review.TokenType;
+import com.webapp.service.review.TokenVisitor;
+import org.springframework.stereotype.Component;
+
+/**
+ * JavaScript: == / != 느슨한 비교 검사
+ */
+@Component
+public class JavaScriptLooseEqualityRule implements CodeReviewRule {
+
+    @Override
+    public String id() {
+        return "js-loose-equality";
+    }
+
+    @Override
+    public boolean supports(Language language) {
+        return language == Language.JAVASCRIPT;
+    }
+
+    @Override
+    public TokenVisitor createVisitor(Language language) {
+        return new TokenVisitor() {
+            private int looseComparisons;
+
+            @Override
+            public void visit(Token token) {
+                if (token.type() == TokenType.OPERATOR && (token.is("==") || token.is("!="))) {
+                    looseComparisons++;
+                }
+            }
+
+            @Override
+            public void finish(ReviewContext context) {
+                if (looseComparisons > 0) {
+                    context.report(Severity.LOW, String.format(
+                        "느슨한 비교(==, !=)가 %d곳에 있습니다. ===, !==를 사용하세요.", looseComparisons), 5);
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,49 @@
+package com.webapp.service.review.rule;
+
+import com.webapp.service.review.CodeReviewRule;
+import com.webapp.service.review.Language;
+import com.webapp.service.review.ReviewContext;
+import com.webapp.service.review.Severity;
+import com.webapp.service.review.Token;
+import com.webapp.service.review.TokenType;
+import com.webapp.service.review.TokenVisitor;
+import org.springframework.stereotype.Component;
+
+/**
+ * JavaScript: var 선언 검사
+ */
+@Component
+public class JavaScriptVarRule implements CodeReviewRule {
+
+    @Override
+    public String id() {
+        return "js-var";
+    }
+
+    @Override
+    public boolean supports(Language language) {
+        return language == Language.JAVASCRIPT;
+    }
+
+    @Override
+    public TokenVisitor createVisitor(Language language) {
+        return new TokenVisitor() {
+            private int varDeclarations;
+
+            @Override
+            public void visit(Token token) {
+                if (token.is(TokenType.KEYWORD, "var")) {
+                    varDeclarations++;
+                }
+            }
+
+            @Override
+            public void finish(ReviewContext context) {
+                if (varDeclarations > 0) {
+                    context.report(Severity.LOW, String.format(
+                        "var 선언이 %d곳에 있습니다. let 또는 const를 사용하세요.", varDeclarations), 5);
+                }
+            }
+        };
+    }
+}
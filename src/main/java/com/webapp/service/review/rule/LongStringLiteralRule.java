@@ -0,0 +1,48 @@
+package com.webapp.service.review.rule;
+
+import com.webapp.service.review.CodeReviewRule;
+import com.webapp.service.review.Language;
+import com.webapp.service.review.ReviewContext;
+import com.webapp.service.review.Severity;
+import com.webapp.service.review.Token;
+import com.webapp.service.review.TokenType;
+import com.webapp.service.review.TokenVisitor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 하드코딩된 긴 문자열 검사 (20자 이상 리터럴이 3개 초과)
+ */
+@Component
+public class LongStringLiteralRule implements CodeReviewRule {
+
+    private static final int LONG_LITERAL_LENGTH = 20;
+    private static final int MAX_LONG_LITERALS = 3;
+
+    @Override
+    public String id() {
+        return "long-string-literal";
+    }
+
+    @Override
+    public TokenVisitor createVisitor(Language language) {
+        return new TokenVisitor() {
+            private int longLiterals;
+
+            @Override
+            public void visit(Token token) {
+                // 양쪽 따옴표 제외
+                if (token.type() == TokenType.STRING && token.length() - 2 >= LONG_LITERAL_LENGTH) {
+                    longLiterals++;
+                }
+            }
+
+            @Override
+            public void finish(ReviewContext context) {
+                if (longLiterals > MAX_LONG_LITERALS) {
+                    context.report(Severity.MEDIUM,
+                        String.format("긴 문자열 %d개가 하드코딩되어 있습니다. 상수로 분리하세요.", longLiterals), 10);
+                }
+            }
+        };
+    }
+}
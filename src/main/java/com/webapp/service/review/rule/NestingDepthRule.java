@@ -0,0 +1,67 @@
+package com.webapp.service.review.rule;
+
+import com.webapp.service.review.CodeReviewRule;
+import com.webapp.service.review.Language;
+import com.webapp.service.review.ReviewContext;
+import com.webapp.service.review.Severity;
+import com.webapp.service.review.Token;
+import com.webapp.service.review.TokenType;
+import com.webapp.service.review.TokenVisitor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * 중첩 깊이 검사 (4단계 초과)
+ * - 중괄호 언어: { ( 기준 깊이
+ * - Python: 들여쓰기 블록 깊이 + 괄호 깊이
+ */
+@Component
+public class NestingDepthRule implements CodeReviewRule {
+
+    private static final int MAX_NESTING = 4;
+
+    @Override
+    public String id() {
+        return "nesting-depth";
+    }
+
+    @Override
+    public TokenVisitor createVisitor(Language language) {
+        boolean indentBlocks = language == Language.PYTHON;
+
+        return new TokenVisitor() {
+            private final Deque<Integer> indents = new ArrayDeque<>();
+            private int bracketDepth;
+            private int maxDepth;
+
+            @Override
+            public void visit(Token token) {
+                if (indentBlocks && token.firstOnLine() && bracketDepth == 0 && token.type() != TokenType.COMMENT) {
+                    while (!indents.isEmpty() && indents.peek() >= token.indent()) {
+                        indents.pop();
+                    }
+                    indents.push(token.indent());
+                }
+
+                if (token.type() == TokenType.OPEN && (token.is("{") || token.is("("))) {
+                    bracketDepth++;
+                } else if (token.type() == TokenType.CLOSE && (token.is("}") || token.is(")"))) {
+                    bracketDepth = Math.max(0, bracketDepth - 1);
+                }
+
+                int depth = bracketDepth + (indentBlocks ? Math.max(0, indents.size() - 1) : 0);
+                maxDepth = Math.max(maxDepth, depth);
+            }
+
+            @Override
+            public void finish(ReviewContext context) {
+                if (maxDepth > MAX_NESTING) {
+                    context.report(Severity.HIGH,
+                        String.format("중첩 깊이가 %d단계로 너무 깊습니다. 코드를 리팩토링하세요.", maxDepth), 15);
+                }
+            }
+        };
+    }
+}
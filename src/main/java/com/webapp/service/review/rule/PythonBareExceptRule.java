@@ -0,0 +1,51 @@
+package com.webapp.service.review.rule;
+
+import com.webapp.service.review.CodeReviewRule;
+import com.webapp.service.review.Language;
+import com.webapp.service.review.ReviewContext;
+import com.webapp.service.review.Severity;
+import com.webapp.service.review.Token;
+import com.webapp.service.review.TokenType;
+import com.webapp.service.review.TokenVisitor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Python: 예외 타입 없는 except: 검사
+ */
+@Component
+public class PythonBareExceptRule implements CodeReviewRule {
+
+    @Override
+    public String id() {
+        return "python-bare-except";
+    }
+
+    @Override
+    public boolean supports(Language language) {
+        return language == Language.PYTHON;
+    }
+
+    @Override
+    public TokenVisitor createVisitor(Language language) {
+        return new TokenVisitor() {
+            private boolean afterExcept;
+            private int bareExcepts;
+
+            @Override
+            public void visit(Token token) {
+                if (afterExcept && token.is(TokenType.OPERATOR, ":")) {
+                    bareExcepts++;
+                }
+                afterExcept = token.is(TokenType.KEYWORD, "except");
+            }
+
+            @Override
+            public void finish(ReviewContext context) {
+                if (bareExcepts > 0) {
+                    context.report(Severity.MEDIUM, String.format(
+                        "예외 타입 없는 except:가 %d곳에 있습니다. 처리할 예외 타입을 명시하세요.", bareExcepts), 10);
+                }
+            }
+        };
+    }
+}
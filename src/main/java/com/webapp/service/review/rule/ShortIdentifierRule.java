@@ -0,0 +1,48 @@
+package com.webapp.service.review.rule;
+
+import com.webapp.service.review.CodeReviewRule;
+import com.webapp.service.review.Language;
+import com.webapp.service.review.ReviewContext;
+import com.webapp.service.review.Severity;
+import com.webapp.service.review.Token;
+import com.webapp.service.review.TokenType;
+import com.webapp.service.review.TokenVisitor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 한 글자 변수명 검사 (한 글자 소문자 식별자가 5개 초과, 리터럴/주석 제외)
+ */
+@Component
+public class ShortIdentifierRule implements CodeReviewRule {
+
+    private static final int MAX_SHORT_IDENTIFIERS = 5;
+
+    @Override
+    public String id() {
+        return "short-identifier";
+    }
+
+    @Override
+    public TokenVisitor createVisitor(Language language) {
+        return new TokenVisitor() {
+            private int shortIdentifiers;
+
+            @Override
+            public void visit(Token token) {
+                if (token.type() == TokenType.IDENTIFIER && token.length() == 1) {
+                    char c = token.charAt(0);
+                    if (c >= 'a' && c <= 'z') {
+                        shortIdentifiers++;
+                    }
+                }
+            }
+
+            @Override
+            public void finish(ReviewContext context) {
+                if (shortIdentifiers > MAX_SHORT_IDENTIFIERS) {
+                    context.report(Severity.LOW, "한 글자 변수명이 많습니다. 의미있는 이름을 사용하세요.", 5);
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,354 @@
+package com.webapp.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * 단일 패스 키워드 추출기
+ * - 정규식/split/stream 없이 문자 단위로 한 번만 훑으면서 토큰화와 빈도 계산을 동시에 수행
+ * - 토큰: 영문 소문자/숫자/밑줄([a-z0-9_]) 또는 한글 음절(가-힣)의 연속
+ * - 한글이 포함된 토큰은 끝의 조사를 떼어내고 2음절 이상이면 채택, 그 외 토큰은 3자 이상만 채택
+ * - 빈도는 오픈 어드레싱 해시 테이블(int[] 카운트)에, 상위 K개는 크기 K의 힙으로 선별
+ * - 순위 기준은 기본적으로 빈도이며, TermScorer로 TF-IDF/BM25 등 다른 점수를 사용할 수 있음
+ */
+public final class KeywordExtractor {
+
+    private static final Set<String> STOPWORDS = Set.of(
+        "이", "그", "저", "것", "수", "등", "들", "및", "때", "등등",
+        "하다", "있다", "되다", "않다", "없다", "아니다",
+        "the", "a", "an", "and", "or", "but", "in", "on", "at", "to", "for",
+        "of", "is", "are", "was", "were", "be", "been", "being",
+        "have", "has", "had", "do", "does", "did", "will", "would",
+        "can", "could", "should", "may", "might", "must"
+    );
+
+    // 긴 조사부터 검사 (예: "에서는"이 "는"보다 먼저)
+    private static final char[][] PARTICLES = Arrays.stream(new String[] {
+            "에서는", "으로는", "에게서", "이라는",
+            "에서", "으로", "에게", "까지", "부터", "보다", "처럼", "이라", "라는", "하고", "와의", "과의",
+            "은", "는", "이", "가", "을", "를", "에", "의", "도", "로", "와", "과", "만"
+        })
+        .sorted((a, b) -> b.length() - a.length())
+        .map(String::toCharArray)
+        .toArray(char[][]::new);
+
+    private static final int MAX_TOKEN_LENGTH = 64;
+
+    private KeywordExtractor() {
+    }
+
+    /**
+     * 빈도 상위 limit개의 키워드 (빈도 내림차순, 같으면 먼저 등장한 순)
+     */
+    public static List<Keyword> extract(String text, int limit) {
+        return countTerms(text).top(limit);
+    }
+
+    /**
+     * 텍스트를 한 번 훑어 용어별 빈도 계산
+     */
+    public static TermCounts countTerms(String text) {
+        TermCounts counts = new TermCounts(Math.max(16, text.length() / 4));
+        char[] buffer = new char[MAX_TOKEN_LENGTH];
+        int length = 0;
+        boolean hasHangul = false;
+
+        for (int i = 0, n = text.length(); i <= n; i++) {
+            char c = i < n ? text.charAt(i) : ' ';
+            if (c >= 'A' && c <= 'Z') {
+                c = (char) (c + ('a' - 'A'));
+            }
+
+            boolean hangul = c >= '가' && c <= '힣';
+            if (hangul || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '_') {
+                if (length < MAX_TOKEN_LENGTH) {
+                    buffer[length] = c;
+                }
+                length++;
+                hasHangul |= hangul;
+                continue;
+            }
+
+            if (length > 0 && length <= MAX_TOKEN_LENGTH) {
+                int termLength = hasHangul ? stripParticle(buffer, length) : length;
+                if (termLength >= (hasHangul ? 2 : 3)) {
+                    counts.add(buffer, termLength);
+                }
+            }
+            length = 0;
+            hasHangul = false;
+        }
+        return counts;
+    }
+
+    /**
+     * 끝 음절이 한글이고 조사를 떼어도 2자 이상 남으면 조사를 제외한 길이 반환
+     */
+    private static int stripParticle(char[] buffer, int length) {
+        char last = buffer[length - 1];
+        if (last < '가' || last > '힣') {
+            return length;
+        }
+        for (char[] particle : PARTICLES) {
+            int stem = length - particle.length;
+            if (stem < 2) {
+                continue;
+            }
+            boolean matches = true;
+            for (int j = 0; j < particle.length; j++) {
+                if (buffer[stem + j] != particle[j]) {
+                    matches = false;
+                    break;
+                }
+            }
+            if (matches) {
+                return stem;
+            }
+        }
+        return length;
+    }
+
+    /**
+     * 용어 → 빈도 오픈 어드레싱(선형 탐사) 테이블
+     * - 용어 문자열은 처음 등장할 때 한 번만 생성
+     * - 불용어는 첫 삽입 시 한 번만 판정하고 이후 무시
+     */
+    public static final class TermCounts {
+
+        private String[] keys;
+        private int[] hashes;
+        private int[] counts;
+        private int[] firstSeen;
+        private boolean[] stopword;
+        private int size;
+        private int totalTerms;
+        private double[] scores;
+
+        private TermCounts(int expected) {
+            int capacity = Integer.highestOneBit(Math.max(16, expected * 2) - 1) << 1;
+            keys = new String[capacity];
+            hashes = new int[capacity];
+            counts = new int[capacity];
+            firstSeen = new int[capacity];
+            stopword = new boolean[capacity];
+        }
+
+        /**
+         * 불용어를 제외한 전체 용어 출현 횟수 (문서 길이)
+         */
+        public int totalTerms() {
+            return totalTerms;
+        }
+
+        /**
+         * 서로 다른 용어 수 (불용어 포함)
+         */
+        public int distinctTerms() {
+            return size;
+        }
+
+        /**
+         * 불용어를 제외한 용어마다 action 실행
+         */
+        public void forEachTerm(Consumer<String> action) {
+            for (int slot = 0; slot < keys.length; slot++) {
+                if (keys[slot] != null && !stopword[slot]) {
+                    action.accept(keys[slot]);
+                }
+            }
+        }
+
+        private void add(char[] buffer, int length) {
+            int hash = 0;
+            for (int i = 0; i < length; i++) {
+                hash = 31 * hash + buffer[i];
+            }
+
+            int mask = keys.length - 1;
+            int slot = mix(hash) & mask;
+            while (keys[slot] != null) {
+                if (hashes[slot] == hash && equalsBuffer(keys[slot], buffer, length)) {
+                    if (!stopword[slot]) {
+                        counts[slot]++;
+                        totalTerms++;
+                    }
+                    return;
+                }
+                slot = (slot + 1) & mask;
+            }
+
+            String term = new String(buffer, 0, length);
+            keys[slot] = term;
+            hashes[slot] = hash;
+            firstSeen[slot] = size;
+            stopword[slot] = STOPWORDS.contains(term);
+            if (!stopword[slot]) {
+                counts[slot] = 1;
+                totalTerms++;
+            }
+            if (++size * 2 > keys.length) {
+                resize();
+            }
+        }
+
+        private void resize() {
+            String[] oldKeys = keys;
+            int[] oldHashes = hashes;
+            int[] oldCounts = counts;
+            int[] oldFirstSeen = firstSeen;
+            boolean[] oldStopword = stopword;
+
+            int capacity = oldKeys.length << 1;
+            keys = new String[capacity];
+            hashes = new int[capacity];
+            counts = new int[capacity];
+            firstSeen = new int[capacity];
+            stopword = new boolean[capacity];
+
+            int mask = capacity - 1;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] == null) {
+                    continue;
+                }
+                int slot = mix(oldHashes[i]) & mask;
+                while (keys[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                hashes[slot] = oldHashes[i];
+                counts[slot] = oldCounts[i];
+                firstSeen[slot] = oldFirstSeen[i];
+                stopword[slot] = oldStopword[i];
+            }
+        }
+
+        /**
+         * 빈도 상위 k개 (크기 k의 최소 힙 사용, O(n log k))
+         */
+        public List<Keyword> top(int k) {
+            return top(k, (term, count) -> count);
+        }
+
+        /**
+         * scorer 점수 상위 k개 (점수가 같으면 빈도, 그다음 먼저 등장한 순)
+         */
+        public List<Keyword> top(int k, TermScorer scorer) {
+            if (k <= 0) {
+                return List.of();
+            }
+
+            scores = new double[keys.length];
+            for (int slot = 0; slot < keys.length; slot++) {
+                if (keys[slot] != null && !stopword[slot]) {
+                    scores[slot] = scorer.score(keys[slot], counts[slot]);
+                }
+            }
+
+            int[] heap = new int[k];
+            int heapSize = 0;
+            for (int slot = 0; slot < keys.length; slot++) {
+                if (keys[slot] == null || stopword[slot]) {
+                    continue;
+                }
+                if (heapSize < k) {
+                    heap[heapSize] = slot;
+                    siftUp(heap, heapSize++);
+                } else if (ranksAbove(slot, heap[0])) {
+                    heap[0] = slot;
+                    siftDown(heap, heapSize);
+                }
+            }
+
+            List<Keyword> result = new ArrayList<>(heapSize);
+            while (heapSize > 0) {
+                int slot = heap[0];
+                result.add(new Keyword(keys[slot], counts[slot]));
+                heap[0] = heap[--heapSize];
+                siftDown(heap, heapSize);
+            }
+            Collections.reverse(result);
+            return result;
+        }
+
+        // 점수가 높을수록, 같으면 빈도가 높을수록, 같으면 먼저 등장할수록 상위
+        private boolean ranksAbove(int a, int b) {
+            if (scores[a] != scores[b]) {
+                return scores[a] > scores[b];
+            }
+            if (counts[a] != counts[b]) {
+                return counts[a] > counts[b];
+            }
+            return firstSeen[a] < firstSeen[b];
+        }
+
+        private void siftUp(int[] heap, int index) {
+            int slot = heap[index];
+            while (index > 0) {
+                int parent = (index - 1) >>> 1;
+                if (!ranksAbove(heap[parent], slot)) {
+                    break;
+                }
+                heap[index] = heap[parent];
+                index = parent;
+            }
+            heap[index] = slot;
+        }
+
+        private void siftDown(int[] heap, int heapSize) {
+            if (heapSize == 0) {
+                return;
+            }
+            int index = 0;
+            int slot = heap[0];
+            while (true) {
+                int child = 2 * index + 1;
+                if (child >= heapSize) {
+                    break;
+                }
+                if (child + 1 < heapSize && ranksAbove(heap[child], heap[child + 1])) {
+                    child++;
+                }
+                if (!ranksAbove(slot, heap[child])) {
+                    break;
+                }
+                heap[index] = heap[child];
+                index = child;
+            }
+            heap[index] = slot;
+        }
+
+        private static boolean equalsBuffer(String key, char[] buffer, int length) {
+            if (key.length() != length) {
+                return false;
+            }
+            for (int i = 0; i < length; i++) {
+                if (key.charAt(i) != buffer[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static int mix(int hash) {
+            return hash ^ (hash >>> 16);
+        }
+    }
+
+    /**
+     * 용어 순위 점수 계산 (tf = 문서 내 빈도)
+     */
+    @FunctionalInterface
+    public interface TermScorer {
+        double score(String term, int tf);
+    }
+
+    /**
+     * 추출된 키워드와 빈도
+     */
+    public record Keyword(String term, int count) {
+    }
+}
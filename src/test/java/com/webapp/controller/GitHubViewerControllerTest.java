@@ -0,0 +1,31 @@
+package com.webapp.controller;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GitHubViewerControllerTest {
+
+    @Test
+    @DisplayName("If-None-Match 목록에서 같은 인코딩의 ETag만 일치")
+    void matchesOnlySameEncodingTag() {
+        String identity = "\"abc123\"";
+        String gzip = "\"abc123-gzip\"";
+
+        assertThat(GitHubViewerController.matchesIfNoneMatch(gzip, gzip)).isTrue();
+        assertThat(GitHubViewerController.matchesIfNoneMatch(gzip, identity)).isFalse();
+        assertThat(GitHubViewerController.matchesIfNoneMatch(identity, gzip)).isFalse();
+        assertThat(GitHubViewerController.matchesIfNoneMatch("\"other\", " + identity, identity)).isTrue();
+    }
+
+    @Test
+    @DisplayName("W/ 접두사와 와일드카드 처리, 헤더가 없으면 불일치")
+    void handlesWeakPrefixAndWildcard() {
+        String etag = "\"abc123-gzip\"";
+
+        assertThat(GitHubViewerController.matchesIfNoneMatch("W/" + etag, etag)).isTrue();
+        assertThat(GitHubViewerController.matchesIfNoneMatch("*", etag)).isTrue();
+        assertThat(GitHubViewerController.matchesIfNoneMatch(null, etag)).isFalse();
+    }
+}
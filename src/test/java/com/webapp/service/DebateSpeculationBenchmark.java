@@ -0,0 +1,131 @@
+package com.webapp.service;
+
+import com.webapp.service.debate.DebateArchive;
+import com.webapp.service.debate.DebateBacklogTracker;
+import com.webapp.service.debate.DebateSessionStore;
+import com.webapp.service.debate.DebateUpdatePublisher;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 토론 추측 실행(ai.debate.speculation.*) 켜고 끈 전체 토론 소요 시간 비교
+ * - upstream은 StubOpenRouterApiService (첫 토큰 300ms, 토큰 간격 10ms, 발언당 60토큰 = 180자)
+ * - 턴 간격 200ms, 토론 50개를 동시에 시작해 모두 끝날 때까지의 시간 (토론당 발언 6개)
+ * - speculation: off 또는 도입부 생성을 시작하는 min-chars (작을수록 일찍 시작하지만 근거가 되는 직전 발언이 짧음)
+ * - 실행: mvn -Pjmh test -Djmh.args="DebateSpeculation"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+public class DebateSpeculationBenchmark {
+
+    private static final int DEBATES = 50;
+    private static final int TURNS = 4; // 발언 2 * 4 - 2 = 6개
+    private static final long FIRST_TOKEN_MS = 300;
+    private static final long TOKEN_INTERVAL_MS = 10;
+    private static final int TURN_TOKENS = 60;
+    private static final long TURN_DELAY_MS = 200;
+
+    @Param({"off", "60", "120"})
+    private String speculation;
+
+    private StubOpenRouterApiService openRouter;
+    private ScheduledExecutorService debateScheduler;
+    private DebateUpdatePublisher publisher;
+    private AiDebateService debateService;
+    private volatile CountDownLatch completed;
+    private final AtomicInteger failures = new AtomicInteger();
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        DebateBacklogTracker backlogTracker = new DebateBacklogTracker(meterRegistry);
+
+        // 발행된 메시지 중 토론 완료/오류만 확인 (STOMP 전송 없음)
+        SimpMessagingTemplate template = new SimpMessagingTemplate((message, timeout) -> {
+            Map<?, ?> payload = (Map<?, ?>) message.getPayload();
+            if (Boolean.TRUE.equals(payload.get("isCompleted"))) {
+                if ("Error".equals(payload.get("speaker"))) {
+                    failures.incrementAndGet();
+                }
+                completed.countDown();
+            }
+            return true;
+        });
+        publisher = new DebateUpdatePublisher(template, backlogTracker, meterRegistry);
+        ReflectionTestUtils.setField(publisher, "maxQueuedDeltas", 100_000);
+        ReflectionTestUtils.setField(publisher, "slowConsumerMaxBacklog", Long.MAX_VALUE);
+        ReflectionTestUtils.setField(publisher, "slowConsumerPolicy", "coalesce");
+        publisher.start();
+
+        DebateSessionStore sessionStore = new DebateSessionStore(meterRegistry, backlogTracker);
+        ReflectionTestUtils.setField(sessionStore, "ttlMs", 900_000L);
+        ReflectionTestUtils.setField(sessionStore, "maxSessions", DEBATES);
+        ReflectionTestUtils.setField(sessionStore, "recentTurns", 4);
+        ReflectionTestUtils.setField(sessionStore, "summaryMaxChars", 1500);
+
+        DebateArchive archive = mock(DebateArchive.class);
+        when(archive.newTranscriptId()).thenReturn("benchmark");
+
+        openRouter = new StubOpenRouterApiService(FIRST_TOKEN_MS, TOKEN_INTERVAL_MS, TURN_TOKENS);
+        debateScheduler = Executors.newScheduledThreadPool(2);
+        debateService = new AiDebateService(openRouter, publisher, sessionStore, debateScheduler, archive);
+        ReflectionTestUtils.setField(debateService, "maxDebateTurns", TURNS);
+        ReflectionTestUtils.setField(debateService, "turnDelayMs", TURN_DELAY_MS);
+        ReflectionTestUtils.setField(debateService, "streamEnabled", true);
+        ReflectionTestUtils.setField(debateService, "streamFlushIntervalMs", 100L);
+        ReflectionTestUtils.setField(debateService, "streamMaxChunkChars", 200);
+        ReflectionTestUtils.setField(debateService, "speculationEnabled", !"off".equals(speculation));
+        ReflectionTestUtils.setField(debateService, "speculationMinChars", "off".equals(speculation) ? 120 : Integer.parseInt(speculation));
+        ReflectionTestUtils.setField(debateService, "speculationOpeningMaxTokens", 20);
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        debateScheduler.shutdownNow();
+        openRouter.shutdown();
+        publisher.stop();
+        if (failures.getAndSet(0) > 0) {
+            throw new IllegalStateException("실패한 토론이 있습니다.");
+        }
+    }
+
+    @Benchmark
+    public void debates() throws InterruptedException {
+        completed = new CountDownLatch(DEBATES);
+        for (int i = 0; i < DEBATES; i++) {
+            debateService.startDebate("benchmark-" + i, "탕수육은 부먹이다", TURNS, false);
+        }
+        if (!completed.await(60, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("토론이 제한 시간 안에 끝나지 않았습니다.");
+        }
+    }
+}
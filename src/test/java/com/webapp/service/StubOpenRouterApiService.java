@@ -0,0 +1,94 @@
+package com.webapp.service;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 네트워크 없이 고정된 지연으로 응답하는 OpenRouter 대역 (토론 벤치마크/테스트용)
+ * - 첫 토큰까지 firstTokenMs, 이후 tokenIntervalMs마다 토큰 하나 (토큰 = TOKEN)
+ * - 발언 하나는 turnTokens개 토큰 (maxTokens가 더 작으면 maxTokens개)
+ * - 추측 실행의 이어지는 부분 요청은 도입부로 이미 말한 토큰 수를 뺀 나머지만 생성 (발언 길이를 일정하게 유지)
+ * - 반환된 future를 취소하면 이후 토큰 생성을 멈춤
+ */
+class StubOpenRouterApiService extends OpenRouterApiService {
+
+    static final String TOKEN = "토론 ";
+
+    // AiDebateService.continuationPrompt의 지시문 일부
+    private static final String CONTINUATION_MARKER = "이어질 내용만";
+
+    private final long firstTokenMs;
+    private final long tokenIntervalMs;
+    private final int turnTokens;
+    private final ScheduledExecutorService timer = Executors.newScheduledThreadPool(4, runnable -> {
+        Thread thread = new Thread(runnable, "stub-openrouter");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    StubOpenRouterApiService(long firstTokenMs, long tokenIntervalMs, int turnTokens) {
+        super(null, null, null);
+        this.firstTokenMs = firstTokenMs;
+        this.tokenIntervalMs = tokenIntervalMs;
+        this.turnTokens = turnTokens;
+    }
+
+    @Override
+    public CompletableFuture<Map<String, Object>> callOpenRouterModelAsync(String model, String prompt, int maxTokens,
+                                                                          double temperature) {
+        return streamOpenRouterModel(model, prompt, maxTokens, temperature, delta -> { });
+    }
+
+    @Override
+    public CompletableFuture<Map<String, Object>> streamOpenRouterModel(String model, String prompt, int maxTokens,
+                                                                        double temperature, Consumer<String> onDelta) {
+        int tokens = Math.min(maxTokens, turnTokens);
+        int opening = openingTokens(prompt);
+        if (opening > 0) {
+            tokens = Math.max(1, turnTokens - opening);
+        }
+        CompletableFuture<Map<String, Object>> result = new CompletableFuture<>();
+        emit(result, onDelta, new StringBuilder(), tokens, firstTokenMs);
+        return result;
+    }
+
+    void shutdown() {
+        timer.shutdownNow();
+    }
+
+    private void emit(CompletableFuture<Map<String, Object>> result, Consumer<String> onDelta, StringBuilder text,
+                      int remaining, long delayMs) {
+        timer.schedule(() -> {
+            if (result.isDone()) { // 취소됨
+                return;
+            }
+            text.append(TOKEN);
+            onDelta.accept(TOKEN);
+            if (remaining == 1) {
+                result.complete(Map.of("success", true, "result", text.toString().trim()));
+            } else {
+                emit(result, onDelta, text, remaining - 1, tokenIntervalMs);
+            }
+        }, delayMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 이어지는 부분 요청이면 프롬프트에 담긴 도입부의 토큰 수, 아니면 0
+     */
+    private static int openingTokens(String prompt) {
+        if (!prompt.contains(CONTINUATION_MARKER)) {
+            return 0;
+        }
+        int start = prompt.lastIndexOf(": \"");
+        int end = prompt.indexOf('"', start + 3);
+        if (start < 0 || end < 0) {
+            return 0;
+        }
+        String opening = prompt.substring(start + 3, end).trim();
+        return opening.isEmpty() ? 0 : opening.split("\\s+").length;
+    }
+}
@@ -0,0 +1,67 @@
+package com.webapp.service.analysis;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class HyperLogLogTest {
+
+    private static final int PRECISION = 12;
+
+    @Test
+    @DisplayName("고유값 10^5개의 상대 오차가 표준오차(약 1.6%)의 3배 이내")
+    void estimatesLargeCardinality() {
+        HyperLogLog hll = new HyperLogLog(PRECISION);
+        for (int i = 0; i < 100_000; i++) {
+            hll.add("user-" + i);
+        }
+
+        assertThat((double) hll.estimate()).isCloseTo(100_000, within(100_000 * 0.05));
+    }
+
+    @Test
+    @DisplayName("중복 값은 추정치를 바꾸지 않고, 작은 개수는 선형 카운팅으로 거의 정확")
+    void ignoresDuplicatesAndCountsSmallSets() {
+        HyperLogLog hll = new HyperLogLog(PRECISION);
+        for (int round = 0; round < 5; round++) {
+            for (int i = 0; i < 1_000; i++) {
+                hll.add(i);
+            }
+        }
+
+        assertThat((double) hll.estimate()).isCloseTo(1_000, within(1_000 * 0.03));
+    }
+
+    @Test
+    @DisplayName("merge(a, b)는 a+b를 한 번에 넣은 것과 같은 추정치")
+    void mergeMatchesSinglePass() {
+        HyperLogLog single = new HyperLogLog(PRECISION);
+        HyperLogLog a = new HyperLogLog(PRECISION);
+        HyperLogLog b = new HyperLogLog(PRECISION);
+        for (int i = 0; i < 100_000; i++) {
+            String value = "user-" + i;
+            single.add(value);
+            // 일부 값은 양쪽에 모두 들어가도록 겹치게 분할
+            if (i < 60_000) {
+                a.add(value);
+            }
+            if (i >= 40_000) {
+                b.add(value);
+            }
+        }
+
+        a.merge(b);
+
+        assertThat(a.estimate()).isEqualTo(single.estimate());
+    }
+
+    @Test
+    @DisplayName("precision이 다르면 합칠 수 없음")
+    void rejectsPrecisionMismatch() {
+        assertThatThrownBy(() -> new HyperLogLog(12).merge(new HyperLogLog(10)))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,100 @@
+package com.webapp.service.analysis;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class KllSketchTest {
+
+    private static final int N = 100_000;
+    // k = 200의 순위 오차(약 1%)에 여유를 둔 허용치
+    private static final double RANK_TOLERANCE = 0.02;
+
+    @Test
+    @DisplayName("p50/p90/p99의 순위 오차가 허용 범위 안")
+    void quantilesStayWithinRankError() {
+        KllSketch sketch = new KllSketch(KllSketch.DEFAULT_K);
+        shuffled(0, N, 1).forEach(sketch::accept);
+
+        Distribution distribution = sketch.distribution(0, N - 1, 10);
+
+        // 0..N-1의 순열이므로 값 v의 순위는 v
+        assertThat(distribution.p50()).isCloseTo(0.5 * N, within(RANK_TOLERANCE * N));
+        assertThat(distribution.p90()).isCloseTo(0.9 * N, within(RANK_TOLERANCE * N));
+        assertThat(distribution.p99()).isCloseTo(0.99 * N, within(RANK_TOLERANCE * N));
+    }
+
+    @Test
+    @DisplayName("압축 후에도 가중치 합이 입력 개수와 같음")
+    void compactionPreservesTotalWeight() {
+        KllSketch sketch = new KllSketch(KllSketch.DEFAULT_K);
+        shuffled(0, N, 2).forEach(sketch::accept);
+
+        Distribution distribution = sketch.distribution(0, N - 1, 10);
+
+        assertThat(sketch.getCount()).isEqualTo(N);
+        assertThat(totalWeight(distribution)).isEqualTo(N);
+        // 균등 분포이므로 구간마다 약 N/10
+        assertThat(distribution.histogram()).allSatisfy(bin ->
+            assertThat((double) bin.count()).isCloseTo(N / 10.0, within(RANK_TOLERANCE * N)));
+    }
+
+    @Test
+    @DisplayName("merge(a, b)는 a+b 한 번 처리한 결과와 같은 오차 범위")
+    void mergeMatchesSinglePass() {
+        List<Double> values = shuffled(0, N, 3);
+        KllSketch single = new KllSketch(KllSketch.DEFAULT_K);
+        KllSketch a = new KllSketch(KllSketch.DEFAULT_K);
+        KllSketch b = new KllSketch(KllSketch.DEFAULT_K);
+        for (int i = 0; i < values.size(); i++) {
+            single.accept(values.get(i));
+            (i < N / 3 ? a : b).accept(values.get(i));
+        }
+
+        a.merge(b);
+        Distribution merged = a.distribution(0, N - 1, 10);
+        Distribution expected = single.distribution(0, N - 1, 10);
+
+        assertThat(a.getCount()).isEqualTo(single.getCount());
+        assertThat(totalWeight(merged)).isEqualTo(N);
+        assertThat(merged.p50()).isCloseTo(expected.p50(), within(2 * RANK_TOLERANCE * N));
+        assertThat(merged.p90()).isCloseTo(expected.p90(), within(2 * RANK_TOLERANCE * N));
+        assertThat(merged.p99()).isCloseTo(expected.p99(), within(2 * RANK_TOLERANCE * N));
+        assertThat(merged.p50()).isCloseTo(0.5 * N, within(RANK_TOLERANCE * N));
+    }
+
+    @Test
+    @DisplayName("값이 없으면 분포 없음, 압축 전이면 정확한 분위수")
+    void exactBeforeCompaction() {
+        KllSketch sketch = new KllSketch(KllSketch.DEFAULT_K);
+        assertThat(sketch.distribution(0, 0, 10)).isNull();
+
+        shuffled(1, 101, 4).forEach(sketch::accept);
+        Distribution distribution = sketch.distribution(1, 100, 4);
+
+        assertThat(distribution.p50()).isEqualTo(50);
+        assertThat(distribution.p90()).isEqualTo(90);
+        assertThat(distribution.p99()).isEqualTo(99);
+        assertThat(distribution.histogram()).extracting(Distribution.Bin::count).containsExactly(25L, 25L, 25L, 25L);
+    }
+
+    private static List<Double> shuffled(int from, int to, long seed) {
+        List<Double> values = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            values.add((double) i);
+        }
+        Collections.shuffle(values, new Random(seed));
+        return values;
+    }
+
+    private static long totalWeight(Distribution distribution) {
+        return distribution.histogram().stream().mapToLong(Distribution.Bin::count).sum();
+    }
+}
@@ -0,0 +1,106 @@
+package com.webapp.service.analysis;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.assertj.core.api.Assertions.withinPercentage;
+
+class NumericStatsTest {
+
+    // 부동소수점 누적 순서 차이만 허용 (백분율, 상대 오차 1e-11)
+    private static final double RELATIVE_ERROR = 1e-9;
+
+    @Test
+    @DisplayName("Welford 누적 결과가 두 번 훑는 정확한 평균/분산과 같음")
+    void matchesTwoPassStatistics() {
+        double[] values = randomValues(10_000, 1);
+        NumericStats stats = new NumericStats();
+        for (double value : values) {
+            stats.accept(value);
+        }
+
+        double mean = 0;
+        for (double value : values) {
+            mean += value;
+        }
+        mean /= values.length;
+        double squares = 0;
+        for (double value : values) {
+            squares += (value - mean) * (value - mean);
+        }
+
+        assertThat(stats.getCount()).isEqualTo(values.length);
+        assertThat(stats.getMean()).isCloseTo(mean, withinPercentage(RELATIVE_ERROR));
+        assertThat(stats.getStddev()).isCloseTo(Math.sqrt(squares / (values.length - 1)), withinPercentage(RELATIVE_ERROR));
+    }
+
+    @Test
+    @DisplayName("merge(a, b)는 a+b를 한 번에 누적한 결과와 같음 (Chan 공식)")
+    void mergeMatchesSinglePass() {
+        double[] values = randomValues(10_000, 2);
+        NumericStats single = new NumericStats();
+        NumericStats a = new NumericStats();
+        NumericStats b = new NumericStats();
+        NumericStats empty = new NumericStats();
+        for (int i = 0; i < values.length; i++) {
+            single.accept(values[i]);
+            (i < 3_000 ? a : b).accept(values[i]);
+        }
+
+        a.merge(b);
+        a.merge(empty);
+
+        assertThat(a.getCount()).isEqualTo(single.getCount());
+        assertThat(a.getSum()).isCloseTo(single.getSum(), withinPercentage(RELATIVE_ERROR));
+        assertThat(a.getMin()).isEqualTo(single.getMin());
+        assertThat(a.getMax()).isEqualTo(single.getMax());
+        assertThat(a.getMean()).isCloseTo(single.getMean(), withinPercentage(RELATIVE_ERROR));
+        assertThat(a.getStddev()).isCloseTo(single.getStddev(), withinPercentage(RELATIVE_ERROR));
+    }
+
+    @Test
+    @DisplayName("빈 누적기에 merge하면 상대 결과를 그대로 가짐")
+    void mergeIntoEmpty() {
+        NumericStats empty = new NumericStats();
+        NumericStats other = new NumericStats();
+        other.accept(1);
+        other.accept(3);
+
+        empty.merge(other);
+
+        assertThat(empty.getCount()).isEqualTo(2);
+        assertThat(empty.getMean()).isEqualTo(2);
+        assertThat(empty.getMin()).isEqualTo(1);
+        assertThat(empty.getMax()).isEqualTo(3);
+        assertThat(empty.getStddev()).isCloseTo(Math.sqrt(2), within(1e-12));
+    }
+
+    @Test
+    @DisplayName("숫자 형태의 문자열만 해석하고 무한대/범위 초과 값은 NaN")
+    void parsesOnlyFiniteNumbers() {
+        assertThat(NumericStats.toDouble("42")).isEqualTo(42);
+        assertThat(NumericStats.toDouble(" -1.5 ")).isEqualTo(-1.5);
+        assertThat(NumericStats.toDouble(7L)).isEqualTo(7);
+        assertThat(NumericStats.toDouble("abc")).isNaN();
+        assertThat(NumericStats.toDouble("")).isNaN();
+        assertThat(NumericStats.toDouble(null)).isNaN();
+        assertThat(NumericStats.toDouble("Infinity")).isNaN();
+        assertThat(NumericStats.toDouble("-Infinity")).isNaN();
+        assertThat(NumericStats.toDouble("+Infinity")).isNaN();
+        assertThat(NumericStats.toDouble("1e999")).isNaN();
+        assertThat(NumericStats.toDouble(Double.POSITIVE_INFINITY)).isNaN();
+    }
+
+    private static double[] randomValues(int size, long seed) {
+        Random random = new Random(seed);
+        double[] values = new double[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = 1_000_000 + random.nextGaussian() * 250;
+        }
+        return values;
+    }
+}
@@ -0,0 +1,100 @@
+package com.webapp.service.analysis;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SpaceSavingTopKTest {
+
+    private static final int CAPACITY = 50;
+
+    @Test
+    @DisplayName("용량 이하의 값이면 merge(a, b)와 한 번 처리한 결과가 정확히 같음")
+    void mergeMatchesSinglePassWithinCapacity() {
+        List<String> values = stream(30, 10_000, 1);
+        SpaceSavingTopK single = new SpaceSavingTopK(CAPACITY);
+        SpaceSavingTopK a = new SpaceSavingTopK(CAPACITY);
+        SpaceSavingTopK b = new SpaceSavingTopK(CAPACITY);
+        for (int i = 0; i < values.size(); i++) {
+            single.add(values.get(i));
+            (i % 2 == 0 ? a : b).add(values.get(i));
+        }
+
+        a.merge(b);
+
+        assertThat(countsOf(a.top(CAPACITY))).isEqualTo(countsOf(single.top(CAPACITY)))
+            .isEqualTo(exactCounts(values));
+    }
+
+    @Test
+    @DisplayName("용량을 넘어도 빈도가 N/capacity를 넘는 값은 merge 전후 모두 포함되고 카운트는 실제 빈도 이상")
+    void mergeKeepsHeavyHitters() {
+        List<String> values = stream(2_000, 50_000, 2);
+        Map<String, Long> exact = exactCounts(values);
+        SpaceSavingTopK single = new SpaceSavingTopK(CAPACITY);
+        SpaceSavingTopK a = new SpaceSavingTopK(CAPACITY);
+        SpaceSavingTopK b = new SpaceSavingTopK(CAPACITY);
+        for (int i = 0; i < values.size(); i++) {
+            single.add(values.get(i));
+            (i < values.size() / 2 ? a : b).add(values.get(i));
+        }
+
+        a.merge(b);
+
+        long threshold = values.size() / CAPACITY;
+        List<String> heavyHitters = exact.entrySet().stream()
+            .filter(entry -> entry.getValue() > threshold)
+            .map(Map.Entry::getKey)
+            .toList();
+        assertThat(heavyHitters).isNotEmpty();
+        for (SpaceSavingTopK sketch : List.of(single, a)) {
+            Map<Object, Long> estimated = countsOf(sketch.top(CAPACITY));
+            assertThat(estimated).containsKeys(heavyHitters.toArray());
+            estimated.forEach((value, count) -> assertThat(count).isGreaterThanOrEqualTo(exact.getOrDefault(value, 0L)));
+        }
+    }
+
+    /**
+     * Zipf 분포에 가까운 값 스트림 (값 i의 빈도 ∝ 1/(i+1))
+     */
+    private static List<String> stream(int distinct, int size, long seed) {
+        double[] cumulative = new double[distinct];
+        double total = 0;
+        for (int i = 0; i < distinct; i++) {
+            total += 1.0 / (i + 1);
+            cumulative[i] = total;
+        }
+        Random random = new Random(seed);
+        List<String> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            double r = random.nextDouble() * total;
+            int index = 0;
+            while (cumulative[index] < r) {
+                index++;
+            }
+            values.add("v" + index);
+        }
+        Collections.shuffle(values, random);
+        return values;
+    }
+
+    private static Map<String, Long> exactCounts(List<String> values) {
+        Map<String, Long> counts = new HashMap<>();
+        values.forEach(value -> counts.merge(value, 1L, Long::sum));
+        return counts;
+    }
+
+    private static Map<Object, Long> countsOf(List<ColumnSummary.ValueCount> top) {
+        Map<Object, Long> counts = new HashMap<>();
+        top.forEach(valueCount -> counts.put(valueCount.value(), valueCount.count()));
+        return counts;
+    }
+}
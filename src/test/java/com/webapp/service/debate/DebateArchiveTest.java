@@ -0,0 +1,37 @@
+package com.webapp.service.debate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.webapp.model.DebateTranscript;
+import com.webapp.repository.DebateTranscriptRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class DebateArchiveTest {
+
+    private final DebateArchive archive = new DebateArchive(mock(DebateTranscriptRepository.class), new ObjectMapper());
+
+    @Test
+    @DisplayName("저장된 발언 JSON을 발언 목록으로 읽음")
+    void readsMessages() {
+        assertThat(archive.messagesOf(transcript("[{\"speaker\":\"AI 1\",\"message\":\"부먹\"}]")))
+            .hasValueSatisfying(messages -> assertThat(messages).containsExactly(new DebateTurn("AI 1", "부먹")));
+    }
+
+    @Test
+    @DisplayName("읽을 수 없거나 비어 있는 기록은 예외 없이 empty")
+    void treatsCorruptRowsAsMissing() {
+        assertThat(archive.messagesOf(transcript("[{\"speaker\":"))).isEmpty();
+        assertThat(archive.messagesOf(transcript("{\"speaker\":\"AI 1\"}"))).isEmpty();
+        assertThat(archive.messagesOf(transcript("[]"))).isEmpty();
+    }
+
+    private static DebateTranscript transcript(String messages) {
+        DebateTranscript transcript = new DebateTranscript();
+        transcript.setId("transcript-1");
+        transcript.setMessages(messages);
+        return transcript;
+    }
+}
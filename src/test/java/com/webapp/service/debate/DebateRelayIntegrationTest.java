@@ -0,0 +1,185 @@
+package com.webapp.service.debate;
+
+import com.webapp.config.WebSocketConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.activemq.artemis.core.config.Configuration;
+import org.apache.activemq.artemis.core.config.impl.ConfigurationImpl;
+import org.apache.activemq.artemis.core.server.embedded.EmbeddedActiveMQ;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.DispatcherServletAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.ServletWebServerFactoryAutoConfiguration;
+import org.springframework.boot.autoconfigure.websocket.servlet.WebSocketServletAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.broker.AbstractBrokerMessageHandler;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.net.ServerSocket;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * relay 모드 다중 노드 전달 검증
+ * - 내장 Artemis(STOMP acceptor)를 외부 브로커로 두고 애플리케이션 컨텍스트 두 개(노드 A, B)를 relay 모드로 실행
+ * - 노드 B에 WebSocket으로 연결한 구독자가 노드 A의 DebateUpdatePublisher가 발행한 메시지를 받는지 확인
+ */
+class DebateRelayIntegrationTest {
+
+    private static final long TIMEOUT_SECONDS = 15;
+    private static final String ALLOWED_ORIGIN = "https://toy.playcloud8.com";
+
+    private static EmbeddedActiveMQ broker;
+    private static ConfigurableApplicationContext nodeA;
+    private static ConfigurableApplicationContext nodeB;
+
+    @BeforeAll
+    static void startBrokerAndNodes(@TempDir Path brokerDir) throws Exception {
+        int stompPort = freePort();
+        Configuration configuration = new ConfigurationImpl()
+            .setPersistenceEnabled(false)
+            .setSecurityEnabled(false)
+            .setJournalDirectory(brokerDir.resolve("journal").toString())
+            .setBindingsDirectory(brokerDir.resolve("bindings").toString())
+            .setLargeMessagesDirectory(brokerDir.resolve("large-messages").toString())
+            .setPagingDirectory(brokerDir.resolve("paging").toString())
+            // /topic/ 목적지는 구독자마다 복사되는 multicast 주소로 생성
+            .addAcceptorConfiguration("stomp", "tcp://127.0.0.1:" + stompPort + "?protocols=STOMP;multicastPrefix=/topic/");
+        broker = new EmbeddedActiveMQ().setConfiguration(configuration);
+        broker.start();
+
+        nodeA = startNode(stompPort);
+        nodeB = startNode(stompPort);
+    }
+
+    @AfterAll
+    static void stopBrokerAndNodes() throws Exception {
+        if (nodeA != null) {
+            nodeA.close();
+        }
+        if (nodeB != null) {
+            nodeB.close();
+        }
+        if (broker != null) {
+            broker.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("노드 A에서 발행한 토론 메시지가 노드 B에 연결된 구독자에게 전달됨")
+    void deliversAcrossNodes() throws Exception {
+        String sessionId = "relay-test";
+        BlockingQueue<Map<String, Object>> received = new LinkedBlockingQueue<>();
+
+        WebSocketStompClient client = new WebSocketStompClient(new StandardWebSocketClient());
+        client.setMessageConverter(new MappingJackson2MessageConverter());
+        ThreadPoolTaskScheduler receiptScheduler = new ThreadPoolTaskScheduler();
+        receiptScheduler.initialize();
+        client.setTaskScheduler(receiptScheduler);
+        WebSocketHttpHeaders handshakeHeaders = new WebSocketHttpHeaders();
+        handshakeHeaders.setOrigin(ALLOWED_ORIGIN);
+        int portB = ((ServletWebServerApplicationContext) nodeB).getWebServer().getPort();
+
+        StompSession session = client.connectAsync("ws://localhost:" + portB + "/ws/websocket", handshakeHeaders,
+                new StompHeaders(), new StompSessionHandlerAdapter() { })
+            .get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        try {
+            // 브로커가 SUBSCRIBE를 처리한 뒤(RECEIPT) 발행해야 메시지가 유실되지 않음
+            CountDownLatch subscribed = new CountDownLatch(1);
+            session.setAutoReceipt(true);
+            session.subscribe(DebateBacklogTracker.DESTINATION_PREFIX + sessionId, new StompFrameHandler() {
+                @Override
+                public Type getPayloadType(StompHeaders headers) {
+                    return Map.class;
+                }
+
+                @Override
+                @SuppressWarnings("unchecked")
+                public void handleFrame(StompHeaders headers, Object payload) {
+                    received.add((Map<String, Object>) payload);
+                }
+            }).addReceiptTask(subscribed::countDown);
+            assertThat(subscribed.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+
+            nodeA.getBean(DebateUpdatePublisher.class)
+                .publish(sessionId, Map.of("type", "turn", "content", "hello from node A"));
+
+            Map<String, Object> message = received.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            assertThat(message).containsEntry("type", "turn").containsEntry("content", "hello from node A");
+        } finally {
+            session.disconnect();
+            client.stop();
+            receiptScheduler.shutdown();
+        }
+    }
+
+    private static ConfigurableApplicationContext startNode(int stompPort) throws InterruptedException {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(RelayNode.class)
+            .web(WebApplicationType.SERVLET)
+            // application.properties보다 우선하도록 명령행 인자로 전달
+            .run("--server.port=0",
+                "--spring.main.banner-mode=off",
+                "--websocket.broker.mode=relay",
+                "--websocket.broker.relay.host=127.0.0.1",
+                "--websocket.broker.relay.port=" + stompPort);
+
+        // 릴레이의 system 세션이 브로커에 연결되기 전에 발행/구독하면 메시지가 버려짐
+        AbstractBrokerMessageHandler relay =
+            context.getBean("stompBrokerRelayMessageHandler", AbstractBrokerMessageHandler.class);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+        while (!relay.isBrokerAvailable()) {
+            assertThat(System.nanoTime()).as("STOMP 브로커 연결 대기").isLessThan(deadline);
+            Thread.sleep(50);
+        }
+        return context;
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    /**
+     * 노드 하나: 임베디드 Tomcat + WebSocket/STOMP 설정 + 토론 메시지 발행기 (DB 등 나머지 빈은 제외)
+     */
+    @org.springframework.context.annotation.Configuration(proxyBeanMethods = false)
+    @ImportAutoConfiguration({
+        ServletWebServerFactoryAutoConfiguration.class,
+        DispatcherServletAutoConfiguration.class,
+        WebSocketServletAutoConfiguration.class
+    })
+    @Import({WebSocketConfig.class, DebateBacklogTracker.class, DebateUpdatePublisher.class})
+    static class RelayNode {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.webapp.service.debate;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SpeculativeTurnTest {
+
+    private final AtomicReference<Consumer<String>> openingSink = new AtomicReference<>();
+    private final CompletableFuture<String> openingCall = new CompletableFuture<>();
+    private final AtomicReference<String> continuationOpening = new AtomicReference<>();
+    private final AtomicReference<Consumer<String>> continuationSink = new AtomicReference<>();
+    private final CompletableFuture<String> continuationCall = new CompletableFuture<>();
+
+    private SpeculativeTurn start(String basis) {
+        return SpeculativeTurn.start(basis,
+            onDelta -> {
+                openingSink.set(onDelta);
+                return openingCall;
+            },
+            (opening, onDelta) -> {
+                continuationOpening.set(opening);
+                continuationSink.set(onDelta);
+                return continuationCall;
+            });
+    }
+
+    @Test
+    @DisplayName("직전 발언이 확정되어야 도입부 뒤를 이어 생성하고, 채택하면 버퍼를 먼저 전달한 뒤 바로 전달")
+    void continuesAfterConfirmation() {
+        SpeculativeTurn turn = start("부먹은");
+        openingSink.get().accept("  찍먹이 ");
+        openingSink.get().accept("맞습니다.");
+        openingCall.complete("찍먹이 맞습니다.");
+
+        assertThat(continuationSink.get()).isNull();
+        assertThat(turn.confirm("부먹은 소스가 스며들어야 합니다.")).isTrue();
+        assertThat(continuationOpening.get()).isEqualTo("찍먹이 맞습니다.");
+
+        continuationSink.get().accept(" 바삭함이");
+        List<String> received = new ArrayList<>();
+        CompletableFuture<String> result = turn.adopt(received::add);
+        continuationSink.get().accept(" 생명이니까요.");
+        continuationCall.complete(" 바삭함이 생명이니까요.");
+
+        assertThat(received).containsExactly("찍먹이 맞습니다. 바삭함이", " 생명이니까요.");
+        assertThat(result).isCompletedWithValue("찍먹이 맞습니다. 바삭함이 생명이니까요.");
+    }
+
+    @Test
+    @DisplayName("직전 발언이 도입부의 근거와 다르면 폐기하고 이어지는 부분은 요청하지 않음")
+    void discardsWhenPreviousTurnDiffers() {
+        SpeculativeTurn turn = start("부먹은");
+        openingSink.get().accept("찍먹이 맞습니다.");
+
+        assertThat(turn.confirm("찍먹은 근본입니다.")).isFalse();
+
+        assertThat(openingCall).isCancelled();
+        assertThat(continuationSink.get()).isNull();
+        List<String> received = new ArrayList<>();
+        assertThat(turn.adopt(received::add)).isCompletedExceptionally();
+        assertThat(received).isEmpty();
+    }
+
+    @Test
+    @DisplayName("도입부 생성에 실패하면 빈 도입부로 발언 전체를 생성")
+    void fallsBackToWholeTurnWhenOpeningFails() {
+        SpeculativeTurn turn = start("부먹은");
+        openingCall.completeExceptionally(new IllegalStateException("upstream"));
+        turn.confirm("부먹은 소스가 스며들어야 합니다.");
+
+        assertThat(continuationOpening.get()).isEmpty();
+        continuationCall.complete("바삭함이 생명입니다.");
+
+        assertThat(turn.adopt(delta -> { })).isCompletedWithValue("바삭함이 생명입니다.");
+    }
+
+    @Test
+    @DisplayName("확정 후 취소하면 진행 중인 이어지는 부분 호출도 중단")
+    void cancelStopsContinuation() {
+        SpeculativeTurn turn = start("부먹은");
+        openingCall.complete("찍먹이 맞습니다.");
+        turn.confirm("부먹은 소스가 스며들어야 합니다.");
+
+        turn.cancel();
+
+        assertThat(continuationCall).isCancelled();
+    }
+}
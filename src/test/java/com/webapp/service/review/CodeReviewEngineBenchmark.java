@@ -0,0 +1,145 @@
+package com.webapp.service.review;
+
+import com.webapp.service.review.rule.CommentDensityRule;
+import com.webapp.service.review.rule.EmptyCatchBlockRule;
+import com.webapp.service.review.rule.ErrorHandlingRule;
+import com.webapp.service.review.rule.FileLengthRule;
+import com.webapp.service.review.rule.IndentationRule;
+import com.webapp.service.review.rule.JavaConsoleOutputRule;
+import com.webapp.service.review.rule.JavaScriptLooseEqualityRule;
+import com.webapp.service.review.rule.JavaScriptVarRule;
+import com.webapp.service.review.rule.LongStringLiteralRule;
+import com.webapp.service.review.rule.NestingDepthRule;
+import com.webapp.service.review.rule.PythonBareExceptRule;
+import com.webapp.service.review.rule.ShortIdentifierRule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CodeTokenizer 단독 토큰화와 CodeReviewEngine 전체 리뷰(토큰화 + 모든 규칙) 비교
+ * - 입력: 언어별 코드 조각을 반복해 만든 약 100KB 소스
+ * - 실행: mvn -Pjmh test -Djmh.args="CodeReviewEngine"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CodeReviewEngineBenchmark {
+
+    private static final int SOURCE_SIZE = 100 * 1024;
+
+    private static final String JAVA_SNIPPET = """
+        /**
+         * Order service %1$d
+         */
+        public class OrderService%1$d {
+            private final Map<String, Integer> cache = new HashMap<>();
+
+            public int total(List<Order> orders) {
+                int sum = 0;
+                for (Order order : orders) {
+                    if (order.isPaid()) {
+                        try {
+                            sum += order.amount(); // paid only
+                        } catch (IllegalStateException e) {
+                        }
+                    }
+                }
+                System.out.println("total=" + sum);
+                return sum;
+            }
+        }
+        """;
+
+    private static final String PYTHON_SNIPPET = """
+        # order service %1$d
+        class OrderService%1$d:
+            \"\"\"Aggregates paid orders.\"\"\"
+
+            def total(self, orders):
+                s = 0
+                for order in orders:
+                    if order.paid:
+                        try:
+                            s += order.amount  # paid only
+                        except:
+                            pass
+                print(f"total={s}")
+                return s
+
+        """;
+
+    private static final String JAVASCRIPT_SNIPPET = """
+        // order service %1$d
+        function total%1$d(orders) {
+          var sum = 0;
+          for (const order of orders) {
+            if (order.status == 'paid') {
+              try {
+                sum += order.amount; /* paid only */
+              } catch (e) {
+              }
+            }
+          }
+          console.log(`total=${sum}`);
+          return sum;
+        }
+
+        """;
+
+    @Param({"java", "python", "javascript"})
+    private String language;
+
+    private String source;
+    private Language parsedLanguage;
+    private CodeReviewEngine engine;
+
+    @Setup
+    public void setUp() {
+        String snippet = switch (language) {
+            case "python" -> PYTHON_SNIPPET;
+            case "javascript" -> JAVASCRIPT_SNIPPET;
+            default -> JAVA_SNIPPET;
+        };
+        StringBuilder sb = new StringBuilder(SOURCE_SIZE + snippet.length() * 2);
+        for (int i = 0; sb.length() < SOURCE_SIZE; i++) {
+            sb.append(String.format(snippet, i));
+        }
+        source = sb.toString();
+        parsedLanguage = Language.from(language);
+
+        engine = new CodeReviewEngine(List.of(
+            new CommentDensityRule(), new EmptyCatchBlockRule(), new ErrorHandlingRule(), new FileLengthRule(),
+            new IndentationRule(), new JavaConsoleOutputRule(), new JavaScriptLooseEqualityRule(),
+            new JavaScriptVarRule(), new LongStringLiteralRule(), new NestingDepthRule(),
+            new PythonBareExceptRule(), new ShortIdentifierRule()
+        ), new SimpleMeterRegistry());
+    }
+
+    @Benchmark
+    public int tokenize() {
+        int[] tokens = new int[1];
+        CodeTokenizer.tokenize(source, parsedLanguage, token -> tokens[0]++);
+        return tokens[0];
+    }
+
+    @Benchmark
+    public ReviewReport review() {
+        return engine.review(source, language);
+    }
+}
@@ -0,0 +1,91 @@
+package com.webapp.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * KeywordExtractor 단일 패스 추출과 기존 정규식/split/HashMap 파이프라인 비교
+ * - 입력: 한글(조사 포함)/영문/숫자/구두점이 섞인 5,000자 텍스트
+ * - 실행: mvn -Pjmh test -Djmh.args="KeywordExtractor"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KeywordExtractorBenchmark {
+
+    private static final String[] WORDS = {
+        "서울에서는", "데이터를", "분석", "결과가", "모델의", "성능은", "캐시", "요청으로", "서버에서", "토론",
+        "Spring", "cache", "latency", "throughput", "GitHub", "repository", "keyword", "index", "2024", "v1_2",
+        "the", "and", "is", "것", "및", "하다", "있다"
+    };
+
+    private static final String[] SEPARATORS = {" ", " ", " ", ", ", ". ", "\n", " (", ") ", ": "};
+
+    // 기존 구현의 불용어 목록
+    private static final Set<String> BASELINE_STOPWORDS = Set.of(
+        "이", "그", "저", "것", "수", "등", "들", "및", "때", "등등",
+        "하다", "있다", "되다", "않다", "없다", "아니다",
+        "the", "a", "an", "and", "or", "but", "in", "on", "at", "to", "for",
+        "of", "is", "are", "was", "were", "be", "been", "being",
+        "have", "has", "had", "do", "does", "did", "will", "would",
+        "can", "could", "should", "may", "might", "must"
+    );
+
+    @Param({"5000"})
+    private int length;
+
+    private String text;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        StringBuilder sb = new StringBuilder(length + 32);
+        while (sb.length() < length) {
+            sb.append(WORDS[random.nextInt(WORDS.length)]);
+            if (random.nextInt(4) == 0) {
+                sb.append(WORDS[random.nextInt(10)].charAt(0)).append(random.nextInt(100));
+            }
+            sb.append(SEPARATORS[random.nextInt(SEPARATORS.length)]);
+        }
+        text = sb.substring(0, length);
+    }
+
+    @Benchmark
+    public List<KeywordExtractor.Keyword> singlePass() {
+        return KeywordExtractor.extract(text, 10);
+    }
+
+    @Benchmark
+    public List<String> regexBaseline() {
+        Map<String, Integer> wordCount = new HashMap<>();
+        Arrays.stream(text.toLowerCase().replaceAll("[^\\w\\s가-힣]", " ").split("\\s+"))
+            .filter(word -> word.length() > 2 && !BASELINE_STOPWORDS.contains(word))
+            .forEach(word -> wordCount.merge(word, 1, Integer::sum));
+        return wordCount.entrySet().stream()
+            .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+            .limit(10)
+            .map(Map.Entry::getKey)
+            .collect(Collectors.toList());
+    }
+}
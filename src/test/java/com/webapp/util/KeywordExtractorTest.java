@@ -0,0 +1,136 @@
+package com.webapp.util;
+
+import com.webapp.util.KeywordExtractor.Keyword;
+import com.webapp.util.KeywordExtractor.TermCounts;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KeywordExtractorTest {
+
+    @Nested
+    @DisplayName("오픈 어드레싱 빈도 테이블")
+    class TermCountTable {
+
+        @Test
+        @DisplayName("초기 용량을 넘는 서로 다른 용어가 들어와도 확장 후 빈도가 유지됨")
+        void growsPastInitialCapacity() {
+            // 2음절 한글 용어는 공백 포함 3자라 초기 용량(텍스트 길이 / 4 기준)을 넘겨 확장이 일어남
+            List<String> terms = IntStream.range(0, 5000)
+                .mapToObj(i -> new String(new char[] {(char) ('가' + i / 50), (char) ('가' + i % 50)}))
+                .toList();
+            String text = String.join(" ", terms) + " " + terms.get(0) + " " + terms.get(4999);
+
+            TermCounts counts = KeywordExtractor.countTerms(text);
+
+            assertThat(counts.distinctTerms()).isEqualTo(5000);
+            assertThat(counts.totalTerms()).isEqualTo(5002);
+            List<Keyword> top = counts.top(5000);
+            assertThat(top).hasSize(5000);
+            assertThat(top.subList(0, 2)).containsExactly(new Keyword(terms.get(0), 2), new Keyword(terms.get(4999), 2));
+            assertThat(top.subList(2, 5000)).allSatisfy(keyword -> assertThat(keyword.count()).isEqualTo(1));
+        }
+
+        @Test
+        @DisplayName("해시가 같은 서로 다른 용어는 별도 슬롯에 집계")
+        void separatesFullHashCollisions() {
+            assertThat("aan".hashCode()).isEqualTo("ac0".hashCode());
+
+            TermCounts counts = KeywordExtractor.countTerms("aan ac0 aan AAN ac0 aan");
+
+            assertThat(counts.distinctTerms()).isEqualTo(2);
+            assertThat(counts.top(2)).containsExactly(new Keyword("aan", 4), new Keyword("ac0", 2));
+        }
+
+        @Test
+        @DisplayName("불용어는 용어 수에는 포함되지만 빈도와 결과에서는 제외")
+        void excludesStopwords() {
+            TermCounts counts = KeywordExtractor.countTerms("the cache and the cache were warm");
+
+            assertThat(counts.distinctTerms()).isEqualTo(5);
+            assertThat(counts.totalTerms()).isEqualTo(3);
+            assertThat(counts.top(10)).containsExactly(new Keyword("cache", 2), new Keyword("warm", 1));
+        }
+    }
+
+    @Nested
+    @DisplayName("한글 조사 제거")
+    class HangulParticles {
+
+        @Test
+        @DisplayName("끝의 조사를 떼어 같은 용어로 집계 (긴 조사 우선)")
+        void stripsTrailingParticles() {
+            List<Keyword> keywords = KeywordExtractor.extract("서울에서는 서울은 서울을 서울에서 서울", 10);
+
+            assertThat(keywords).containsExactly(new Keyword("서울", 5));
+        }
+
+        @Test
+        @DisplayName("조사를 떼면 1음절만 남는 경우는 그대로 유지")
+        void keepsShortStems() {
+            List<Keyword> keywords = KeywordExtractor.extract("나는 너는 나는", 10);
+
+            assertThat(keywords).containsExactly(new Keyword("나는", 2), new Keyword("너는", 1));
+        }
+
+        @Test
+        @DisplayName("영문/숫자 뒤에 붙은 조사도 제거하고, 앞부분의 조사 글자는 건드리지 않음")
+        void stripsParticlesAfterLatinStem() {
+            List<Keyword> keywords = KeywordExtractor.extract("Java를 java로 은행 은행은", 10);
+
+            assertThat(keywords).containsExactly(new Keyword("java", 2), new Keyword("은행", 2));
+        }
+    }
+
+    @Nested
+    @DisplayName("상위 K개 힙")
+    class TopK {
+
+        @Test
+        @DisplayName("빈도가 같으면 먼저 등장한 용어가 상위")
+        void breaksCountTiesByFirstOccurrence() {
+            TermCounts counts = KeywordExtractor.countTerms("beta alpha beta alpha gamma delta gamma");
+
+            assertThat(counts.top(1)).containsExactly(new Keyword("beta", 2));
+            assertThat(counts.top(3)).containsExactly(
+                new Keyword("beta", 2), new Keyword("alpha", 2), new Keyword("gamma", 2));
+        }
+
+        @Test
+        @DisplayName("모든 용어가 동률이면 등장 순서대로 K개")
+        void keepsFirstKOnFullTie() {
+            String text = IntStream.range(0, 200).mapToObj(i -> "t" + (1000 + i)).collect(Collectors.joining(" "));
+
+            List<String> top = KeywordExtractor.extract(text, 10).stream().map(Keyword::term).toList();
+
+            assertThat(top).containsExactly("t1000", "t1001", "t1002", "t1003", "t1004",
+                "t1005", "t1006", "t1007", "t1008", "t1009");
+        }
+
+        @Test
+        @DisplayName("점수가 같으면 빈도, 그다음 등장 순서로 정렬")
+        void breaksScoreTiesByCountThenFirstOccurrence() {
+            TermCounts counts = KeywordExtractor.countTerms("gamma beta alpha beta alpha alpha");
+
+            assertThat(counts.top(3, (term, tf) -> 1.0)).extracting(Keyword::term)
+                .containsExactly("alpha", "beta", "gamma");
+            assertThat(counts.top(3, (term, tf) -> term.equals("gamma") ? 5.0 : 1.0)).extracting(Keyword::term)
+                .containsExactly("gamma", "alpha", "beta");
+        }
+
+        @Test
+        @DisplayName("K가 용어 수보다 크면 전체, 0 이하면 빈 목록")
+        void handlesOutOfRangeK() {
+            TermCounts counts = KeywordExtractor.countTerms("alpha beta alpha");
+
+            assertThat(counts.top(10)).containsExactly(new Keyword("alpha", 2), new Keyword("beta", 1));
+            assertThat(counts.top(0)).isEmpty();
+        }
+    }
+}